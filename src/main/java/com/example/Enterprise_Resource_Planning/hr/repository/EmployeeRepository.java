@@ -2,6 +2,7 @@ package com.example.Enterprise_Resource_Planning.hr.repository;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import com.example.Enterprise_Resource_Planning.hr.model.Department;
@@ -9,6 +10,13 @@ import com.example.Enterprise_Resource_Planning.hr.model.Employee;
 import com.example.Enterprise_Resource_Planning.hr.model.EmployeeStatus;
 import com.example.Enterprise_Resource_Planning.hr.model.JobTitle;
 public interface EmployeeRepository extends JpaRepository<Employee, Long> {
+
+    // Fetch department and job title in the same query instead of one select per distinct reference
+    @Override
+    @EntityGraph(attributePaths = {"department", "jobTitle"})
+    List<Employee> findAll();
+
+    @EntityGraph(attributePaths = {"department", "jobTitle"})
     Optional<Employee> findByEmail(String email);
     List<Employee> findByStatus(EmployeeStatus status);
     List<Employee> findByJobTitle(JobTitle jobTitle);
@@ -0,0 +1,86 @@
+package com.example.Enterprise_Resource_Planning.inventory.alert;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.example.Enterprise_Resource_Planning.inventory.model.ProductSnapshot;
+
+/**
+ * A product crossing one of its stock thresholds.
+ *
+ * @param type the threshold that was crossed
+ * @param transition whether the product entered or left the alert condition
+ * @param productId the product ID
+ * @param sku the product SKU
+ * @param name the product name
+ * @param quantityInStock the quantity in stock after the change, null if the product was deleted
+ * @param threshold the minimum stock level or reorder point after the change
+ * @param occurredAt when the change was made
+ */
+public record StockAlert(
+        AlertType type,
+        Transition transition,
+        Long productId,
+        String sku,
+        String name,
+        Integer quantityInStock,
+        Integer threshold,
+        LocalDateTime occurredAt) {
+
+    /**
+     * Stock threshold of an alert.
+     */
+    public enum AlertType {
+        LOW_STOCK, // Quantity in stock below the minimum stock level
+        REORDER // Quantity in stock at or below the reorder point
+    }
+
+    /**
+     * Direction of a threshold crossing.
+     */
+    public enum Transition {
+        RAISED,
+        CLEARED
+    }
+
+    /**
+     * The threshold crossings caused by a product change, using the same rules as the
+     * persisted {@code below_minimum_stock} and {@code reorder_needed} flags.
+     * Creating a product in an alert condition raises the alert, deleting one clears it.
+     *
+     * @param previous the product state before the change, null for creations
+     * @param current the product state after the change, null for deletions
+     * @param occurredAt when the change was made
+     * @return the crossings, empty if no threshold was crossed
+     */
+    public static List<StockAlert> transitions(ProductSnapshot previous, ProductSnapshot current,
+                                               LocalDateTime occurredAt) {
+        List<StockAlert> alerts = new ArrayList<>(2);
+        boolean wasLow = previous != null && previous.belowMinimumStock();
+        boolean isLow = current != null && current.belowMinimumStock();
+        if (wasLow != isLow) {
+            alerts.add(of(AlertType.LOW_STOCK, isLow, previous, current, occurredAt));
+        }
+        boolean wasReorder = previous != null && previous.reorderNeeded();
+        boolean isReorder = current != null && current.reorderNeeded();
+        if (wasReorder != isReorder) {
+            alerts.add(of(AlertType.REORDER, isReorder, previous, current, occurredAt));
+        }
+        return alerts;
+    }
+
+    private static StockAlert of(AlertType type, boolean raised, ProductSnapshot previous, ProductSnapshot current,
+                                 LocalDateTime occurredAt) {
+        ProductSnapshot product = current != null ? current : previous;
+        return new StockAlert(
+            type,
+            raised ? Transition.RAISED : Transition.CLEARED,
+            product.id(),
+            product.sku(),
+            product.name(),
+            current != null ? current.quantityInStock() : null,
+            type == AlertType.LOW_STOCK ? product.minimumStockLevel() : product.reorderPoint(),
+            occurredAt);
+    }
+}
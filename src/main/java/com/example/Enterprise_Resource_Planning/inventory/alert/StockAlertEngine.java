@@ -0,0 +1,182 @@
+package com.example.Enterprise_Resource_Planning.inventory.alert;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import com.example.Enterprise_Resource_Planning.inventory.config.InventoryProperties;
+import com.example.Enterprise_Resource_Planning.inventory.dto.response.ProductSummaryDTO;
+import com.example.Enterprise_Resource_Planning.inventory.event.ProductChangeCommittedEvent;
+import com.example.Enterprise_Resource_Planning.inventory.event.ProductChangedEvent;
+import com.example.Enterprise_Resource_Planning.inventory.event.StockThresholdCrossedEvent;
+import com.example.Enterprise_Resource_Planning.inventory.mapper.ProductMapper;
+import com.example.Enterprise_Resource_Planning.inventory.model.ProductSnapshot;
+import com.example.Enterprise_Resource_Planning.inventory.repository.ProductRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Detects stock threshold crossings and keeps the set of products currently in alert.
+ *
+ * A product can only cross its minimum stock level or reorder point when it is written,
+ * so every ProductChangedEvent is compared old against new and each crossing is published
+ * as a StockThresholdCrossedEvent in the writing transaction. The alert sets follow the
+ * committed changes, so the alert lists are served without querying the products table.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StockAlertEngine {
+
+    private final ProductRepository productRepository;
+    private final InventoryProperties inventoryProperties;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    // Keyed by product ID, so the lists come out in ID order
+    private final TreeMap<Long, ProductSummaryDTO> belowMinimumStock = new TreeMap<>();
+    private final TreeMap<Long, ProductSummaryDTO> reorderNeeded = new TreeMap<>();
+
+    // Changes committed while a rebuild is reading the table; replayed once it finishes
+    private final List<ProductChangedEvent> pendingChanges = new ArrayList<>();
+    private volatile boolean rebuilding;
+    private volatile boolean ready;
+
+    /**
+     * Publish the threshold crossings of a product change. Runs synchronously in the
+     * transaction of the product write, so the publications commit together with it.
+     */
+    @EventListener
+    public void detectTransitions(ProductChangedEvent event) {
+        LocalDateTime now = LocalDateTime.now();
+        for (StockAlert alert : StockAlert.transitions(event.previous(), event.current(), now)) {
+            eventPublisher.publishEvent(new StockThresholdCrossedEvent(alert));
+        }
+    }
+
+    /**
+     * Apply a committed product change to the alert sets. Changes that cross no threshold
+     * still refresh the listed product, e.g. its quantity in stock.
+     */
+    @EventListener
+    public void onProductChanged(ProductChangeCommittedEvent committed) {
+        ProductChangedEvent event = committed.change();
+        lock.writeLock().lock();
+        try {
+            if (rebuilding) {
+                pendingChanges.add(event);
+            }
+            apply(event);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Rebuild the alert sets from the database in ID-ordered batches.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            rebuilding = true;
+            ready = false;
+            belowMinimumStock.clear();
+            reorderNeeded.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        int batchSize = inventoryProperties.getSearch().getRebuildBatchSize();
+        long lastId = 0;
+        List<ProductSnapshot> batch;
+        do {
+            batch = productRepository.findSnapshotsAfter(lastId, PageRequest.of(0, batchSize));
+            lock.writeLock().lock();
+            try {
+                batch.forEach(this::add);
+            } finally {
+                lock.writeLock().unlock();
+            }
+            if (!batch.isEmpty()) {
+                lastId = batch.get(batch.size() - 1).id();
+            }
+        } while (batch.size() == batchSize);
+
+        lock.writeLock().lock();
+        try {
+            // Re-apply changes that may have raced with the batch reads
+            pendingChanges.forEach(this::apply);
+            pendingChanges.clear();
+            rebuilding = false;
+            ready = true;
+            log.info("Stock alert sets rebuilt: {} below minimum stock, {} needing reorder",
+                belowMinimumStock.size(), reorderNeeded.size());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Products currently below their minimum stock level, in ID order.
+     *
+     * @return the products, or empty if the alert sets are not built yet
+     */
+    public Optional<List<ProductSummaryDTO>> getBelowMinimumStock() {
+        return copyOf(belowMinimumStock);
+    }
+
+    /**
+     * Products currently at or below their reorder point, in ID order.
+     *
+     * @return the products, or empty if the alert sets are not built yet
+     */
+    public Optional<List<ProductSummaryDTO>> getReorderNeeded() {
+        return copyOf(reorderNeeded);
+    }
+
+    private Optional<List<ProductSummaryDTO>> copyOf(TreeMap<Long, ProductSummaryDTO> alerts) {
+        if (!ready) {
+            return Optional.empty();
+        }
+        lock.readLock().lock();
+        try {
+            return Optional.of(List.copyOf(alerts.values()));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void apply(ProductChangedEvent event) {
+        Long productId = event.productId();
+        belowMinimumStock.remove(productId);
+        reorderNeeded.remove(productId);
+        if (event.current() != null) {
+            add(event.current());
+        }
+    }
+
+    private void add(ProductSnapshot product) {
+        if (!product.belowMinimumStock() && !product.reorderNeeded()) {
+            return;
+        }
+        ProductSummaryDTO summary = ProductMapper.toSnapshotSummary(product);
+        if (product.belowMinimumStock()) {
+            belowMinimumStock.put(product.id(), summary);
+        }
+        if (product.reorderNeeded()) {
+            reorderNeeded.put(product.id(), summary);
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package com.example.Enterprise_Resource_Planning.inventory.alert;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.example.Enterprise_Resource_Planning.inventory.config.InventoryProperties;
+import com.example.Enterprise_Resource_Planning.inventory.event.StockThresholdCrossedEvent;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Pushes stock threshold crossings to server-sent event subscribers.
+ *
+ * Crossings are detected by StockAlertEngine and pushed once their write has committed. Each subscriber has a bounded
+ * buffer drained by its own virtual thread, so a slow client never delays the writer or
+ * other subscribers. When a buffer is full the oldest alert is dropped, and the subscriber
+ * receives an {@code alerts-dropped} event with the number of lost alerts before the next
+ * {@code stock-alert}, telling it to reload the alert lists.
+ */
+@Component
+@Slf4j
+public class StockAlertStream {
+
+    static final String ALERT_EVENT = "stock-alert";
+    static final String DROPPED_EVENT = "alerts-dropped";
+
+    private final InventoryProperties inventoryProperties;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final ExecutorService senders = Executors.newThreadPerTaskExecutor(
+        Thread.ofVirtual().name("stock-alert-sse-", 0).factory());
+    private final AtomicLong sequence = new AtomicLong();
+
+    public StockAlertStream(InventoryProperties inventoryProperties) {
+        this.inventoryProperties = inventoryProperties;
+    }
+
+    /**
+     * Register a new subscriber.
+     *
+     * @return the emitter to return from the controller
+     */
+    public SseEmitter subscribe() {
+        InventoryProperties.Alerts settings = inventoryProperties.getAlerts();
+        SseEmitter emitter = new SseEmitter(settings.getStreamTimeout().toMillis());
+        Subscriber subscriber = new Subscriber(emitter, settings.getStreamBufferSize());
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(error -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+        return emitter;
+    }
+
+    /**
+     * Publish a threshold crossing once its product write has committed.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onStockThresholdCrossed(StockThresholdCrossedEvent event) {
+        publish(event.alert());
+    }
+
+    /**
+     * Queue an alert for every subscriber.
+     */
+    public void publish(StockAlert alert) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        Event event = new Event(Long.toString(sequence.incrementAndGet()), alert);
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.offer(event)) {
+                senders.execute(() -> drain(subscriber));
+            }
+        }
+    }
+
+    /**
+     * Send a comment to idle subscribers, so broken connections are detected and proxies keep them open.
+     */
+    @Scheduled(fixedDelayString = "${erp.inventory.alerts.stream-heartbeat-interval:PT15S}")
+    public void sendHeartbeats() {
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.offerIfIdle(Event.HEARTBEAT)) {
+                senders.execute(() -> drain(subscriber));
+            }
+        }
+    }
+
+    /**
+     * Number of connected subscribers.
+     */
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        subscribers.clear();
+        senders.shutdownNow();
+    }
+
+    private void drain(Subscriber subscriber) {
+        Event event;
+        while ((event = subscriber.next()) != null) {
+            try {
+                long dropped = subscriber.takeDropped();
+                if (dropped > 0) {
+                    subscriber.emitter.send(SseEmitter.event().name(DROPPED_EVENT).data(dropped));
+                }
+                subscriber.emitter.send(event.toSse());
+            } catch (IOException | IllegalStateException e) {
+                log.debug("Stock alert subscriber disconnected: {}", e.getMessage());
+                subscribers.remove(subscriber);
+                subscriber.emitter.completeWithError(e);
+                return;
+            }
+        }
+    }
+
+    /**
+     * A pending event; builders are created per send because SseEventBuilder is mutable.
+     */
+    private record Event(String id, StockAlert alert) {
+
+        static final Event HEARTBEAT = new Event(null, null);
+
+        SseEmitter.SseEventBuilder toSse() {
+            return alert != null
+                ? SseEmitter.event().id(id).name(ALERT_EVENT).data(alert)
+                : SseEmitter.event().comment("heartbeat");
+        }
+    }
+
+    /**
+     * An emitter with a bounded buffer of pending events. At most one sender drains it at a time.
+     */
+    private static final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final int capacity;
+        private final ArrayDeque<Event> buffer;
+        private long dropped;
+        private boolean draining;
+
+        Subscriber(SseEmitter emitter, int capacity) {
+            this.emitter = emitter;
+            this.capacity = Math.max(1, capacity);
+            this.buffer = new ArrayDeque<>(this.capacity);
+        }
+
+        /**
+         * Buffer an event, dropping the oldest one when full.
+         *
+         * @return true if the caller must start a sender
+         */
+        synchronized boolean offer(Event event) {
+            if (buffer.size() == capacity) {
+                buffer.pollFirst();
+                dropped++;
+            }
+            buffer.addLast(event);
+            return startDraining();
+        }
+
+        /**
+         * Buffer an event only if nothing is pending or being sent.
+         *
+         * @return true if the caller must start a sender
+         */
+        synchronized boolean offerIfIdle(Event event) {
+            if (draining) {
+                return false;
+            }
+            buffer.addLast(event);
+            return startDraining();
+        }
+
+        /**
+         * The next event to send, or null after which the sender must stop.
+         */
+        synchronized Event next() {
+            Event event = buffer.pollFirst();
+            if (event == null) {
+                draining = false;
+            }
+            return event;
+        }
+
+        synchronized long takeDropped() {
+            long count = dropped;
+            dropped = 0;
+            return count;
+        }
+
+        private boolean startDraining() {
+            if (draining) {
+                return false;
+            }
+            draining = true;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package com.example.Enterprise_Resource_Planning.inventory.analytics;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.example.Enterprise_Resource_Planning.inventory.dto.response.CategoryMetricsDTO;
+import com.example.Enterprise_Resource_Planning.inventory.dto.response.InventorySummaryDTO;
+import com.example.Enterprise_Resource_Planning.inventory.dto.response.ProductSummaryDTO;
+import com.example.Enterprise_Resource_Planning.inventory.mapper.ProductMapper;
+import com.example.Enterprise_Resource_Planning.inventory.model.InventoryTotals;
+import com.example.Enterprise_Resource_Planning.inventory.model.ProductSnapshot;
+import com.example.Enterprise_Resource_Planning.inventory.utils.Money;
+import com.example.Enterprise_Resource_Planning.inventory.utils.MoneyAccumulator;
+import com.example.Enterprise_Resource_Planning.inventory.utils.TopK;
+
+/**
+ * Partial dashboard metrics of one partition of the catalog.
+ * Partitions are accumulated independently and merged left to right, so list
+ * metrics keep the catalog order. Not thread-safe; each task owns its accumulator.
+ */
+final class DashboardAccumulator {
+
+    // Same order as the database top-K query: inventory value, then the higher ID first
+    private static final Comparator<ValuedProduct> BY_VALUE = Comparator.comparing(ValuedProduct::value)
+        .thenComparing(valued -> valued.product().id());
+
+    private record ValuedProduct(ProductSnapshot product, Money value) {
+    }
+
+    private static final class CategoryAccumulator {
+        private String name; // Lowest trimmed spelling seen for the lookup key, null for uncategorized products
+        private long productCount;
+        private final MoneyAccumulator totalValue = new MoneyAccumulator();
+        private long lowStockCount;
+
+        void addName(String category) {
+            if (category != null && (name == null || category.compareTo(name) < 0)) {
+                name = category;
+            }
+        }
+
+        void merge(CategoryAccumulator other) {
+            addName(other.name);
+            productCount += other.productCount;
+            totalValue.add(other.totalValue);
+            lowStockCount += other.lowStockCount;
+        }
+    }
+
+    private final int topK;
+    private final int categoryTopK;
+
+    private long productCount;
+    private final MoneyAccumulator totalValue = new MoneyAccumulator();
+    private long normalCount;
+    private long lowCount;
+    private long criticalCount;
+    private long outOfStockCount;
+    private long unknownCount;
+
+    private final Map<String, CategoryAccumulator> categories = new HashMap<>();
+    private final TopK<ValuedProduct> mostValuable;
+    private final Map<String, TopK<ValuedProduct>> mostValuableByCategory = new HashMap<>();
+    // Kept as summaries, so accumulated partitions do not hold on to full product snapshots
+    private final List<ProductSummaryDTO> belowMinimumStock = new ArrayList<>();
+    private final List<ProductSummaryDTO> reorderNeeded = new ArrayList<>();
+
+    /**
+     * @param topK the number of most valuable products kept for the whole catalog
+     * @param categoryTopK the number of most valuable products kept per category
+     */
+    DashboardAccumulator(int topK, int categoryTopK) {
+        this.topK = topK;
+        this.categoryTopK = categoryTopK;
+        this.mostValuable = new TopK<>(topK, BY_VALUE);
+    }
+
+    void add(ProductSnapshot product) {
+        Money value = product.unitPrice() != null && product.quantityInStock() != null
+            ? Money.multiply(product.unitPrice(), product.quantityInStock())
+            : Money.ZERO;
+        String stockStatus = product.stockStatus();
+
+        productCount++;
+        totalValue.add(value);
+        switch (stockStatus) {
+            case "NORMAL" -> normalCount++;
+            case "LOW" -> lowCount++;
+            case "CRITICAL" -> criticalCount++;
+            case "OUT_OF_STOCK" -> outOfStockCount++;
+            default -> unknownCount++;
+        }
+
+        // Grouped by lookup key like the database query, so case variants share a row
+        String categoryKey = ProductMapper.toLookupKey(product.category());
+        CategoryAccumulator category = categories.computeIfAbsent(categoryKey, key -> new CategoryAccumulator());
+        if (categoryKey != null) {
+            category.addName(product.category().trim());
+        }
+        category.productCount++;
+        category.totalValue.add(value);
+        if ("LOW".equals(stockStatus) || "OUT_OF_STOCK".equals(stockStatus)) {
+            category.lowStockCount++;
+        }
+
+        ValuedProduct valued = new ValuedProduct(product, value);
+        mostValuable.offer(valued);
+        if (categoryKey != null) {
+            mostValuableByCategory.computeIfAbsent(categoryKey, key -> new TopK<>(categoryTopK, BY_VALUE)).offer(valued);
+        }
+
+        if (product.belowMinimumStock() || product.reorderNeeded()) {
+            ProductSummaryDTO summary = ProductMapper.toSnapshotSummary(product);
+            if (product.belowMinimumStock()) {
+                belowMinimumStock.add(summary);
+            }
+            if (product.reorderNeeded()) {
+                reorderNeeded.add(summary);
+            }
+        }
+    }
+
+    /**
+     * Fold the metrics of the partition that follows this one into this accumulator.
+     *
+     * @return this accumulator
+     */
+    DashboardAccumulator merge(DashboardAccumulator next) {
+        productCount += next.productCount;
+        totalValue.add(next.totalValue);
+        normalCount += next.normalCount;
+        lowCount += next.lowCount;
+        criticalCount += next.criticalCount;
+        outOfStockCount += next.outOfStockCount;
+        unknownCount += next.unknownCount;
+
+        next.categories.forEach((categoryKey, metrics) ->
+            categories.computeIfAbsent(categoryKey, key -> new CategoryAccumulator()).merge(metrics));
+        mostValuable.addAll(next.mostValuable);
+        next.mostValuableByCategory.forEach((key, ranked) ->
+            mostValuableByCategory.computeIfAbsent(key, k -> new TopK<>(categoryTopK, BY_VALUE)).addAll(ranked));
+        belowMinimumStock.addAll(next.belowMinimumStock);
+        reorderNeeded.addAll(next.reorderNeeded);
+        return this;
+    }
+
+    InventoryDashboardSnapshot toSnapshot(LocalDateTime computedAt) {
+        InventoryTotals totals = new InventoryTotals(productCount, totalValue.total(),
+            normalCount, lowCount, criticalCount, outOfStockCount, unknownCount,
+            belowMinimumStock.size(), reorderNeeded.size());
+
+        Map<String, CategoryAccumulator> sortedCategories = new TreeMap<String, CategoryAccumulator>(
+            Comparator.nullsFirst(Comparator.<String>naturalOrder()));
+        sortedCategories.putAll(categories);
+        List<CategoryMetricsDTO> categoryMetrics = sortedCategories.entrySet().stream()
+            .map(entry -> new CategoryMetricsDTO(entry.getValue().name, entry.getValue().productCount,
+                entry.getValue().totalValue.total(), entry.getValue().lowStockCount))
+            .toList();
+
+        Map<String, List<ProductSummaryDTO>> byCategory = new HashMap<>();
+        mostValuableByCategory.forEach((key, ranked) -> byCategory.put(key, toSummaries(ranked)));
+
+        return new InventoryDashboardSnapshot(
+            InventorySummaryDTO.of(totals, computedAt),
+            categoryMetrics,
+            toSummaries(mostValuable),
+            Map.copyOf(byCategory),
+            List.copyOf(belowMinimumStock),
+            List.copyOf(reorderNeeded),
+            computedAt);
+    }
+
+    private static List<ProductSummaryDTO> toSummaries(TopK<ValuedProduct> ranked) {
+        return ranked.toList().stream().map(valued -> ProductMapper.toSnapshotSummary(valued.product())).toList();
+    }
+}
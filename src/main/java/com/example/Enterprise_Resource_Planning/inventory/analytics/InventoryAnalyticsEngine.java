@@ -0,0 +1,129 @@
+package com.example.Enterprise_Resource_Planning.inventory.analytics;
+
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.Enterprise_Resource_Planning.inventory.config.InventoryProperties;
+import com.example.Enterprise_Resource_Planning.inventory.model.ProductSnapshot;
+import com.example.Enterprise_Resource_Planning.inventory.repository.ProductRepository;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Computes every inventory dashboard metric in a single pass over the catalog.
+ *
+ * Products are read in ID-ordered batches inside one read-only transaction. Each batch
+ * is handed to a dedicated fork-join pool as soon as it arrives, where it is split into
+ * partitions of {@code erp.inventory.dashboard.partition-size} products; every partition
+ * fills its own {@link DashboardAccumulator} and sibling results are merged pairwise.
+ * Batch results are merged in ID order into one {@link InventoryDashboardSnapshot} as soon
+ * as they are done, and no more batches are read while every worker is busy, so only about
+ * one batch per worker is held in memory at a time.
+ */
+@Component
+@Slf4j
+public class InventoryAnalyticsEngine {
+
+    private final ProductRepository productRepository;
+    private final InventoryProperties inventoryProperties;
+    private final ForkJoinPool pool;
+
+    public InventoryAnalyticsEngine(ProductRepository productRepository, InventoryProperties inventoryProperties) {
+        this.productRepository = productRepository;
+        this.inventoryProperties = inventoryProperties;
+        int parallelism = inventoryProperties.getDashboard().getParallelism();
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Read the catalog and compute a new dashboard snapshot.
+     */
+    @Transactional(readOnly = true)
+    public InventoryDashboardSnapshot compute() {
+        long started = System.nanoTime();
+        LocalDateTime computedAt = LocalDateTime.now();
+        int batchSize = inventoryProperties.getSearch().getRebuildBatchSize();
+        int partitionSize = Math.max(1, inventoryProperties.getDashboard().getPartitionSize());
+        int topK = inventoryProperties.getDashboard().getTopValuableMaxLimit();
+        int categoryTopK = inventoryProperties.getDashboard().getTopValuableDefaultLimit();
+
+        DashboardAccumulator result = new DashboardAccumulator(topK, categoryTopK);
+        // Batches being accumulated, oldest first
+        Deque<ForkJoinTask<DashboardAccumulator>> pending = new ArrayDeque<>();
+        long lastId = 0;
+        List<ProductSnapshot> batch;
+        do {
+            batch = productRepository.findSnapshotsAfter(lastId, PageRequest.of(0, batchSize));
+            if (!batch.isEmpty()) {
+                pending.addLast(pool.submit(new PartitionTask(batch, 0, batch.size(), partitionSize, topK, categoryTopK)));
+                lastId = batch.get(batch.size() - 1).id();
+            }
+            // Fold finished batches in order; wait for the oldest one while every worker is busy
+            while (!pending.isEmpty() && (pending.peekFirst().isDone() || pending.size() > pool.getParallelism())) {
+                result.merge(pending.removeFirst().join());
+            }
+        } while (batch.size() == batchSize);
+        while (!pending.isEmpty()) {
+            result.merge(pending.removeFirst().join());
+        }
+
+        InventoryDashboardSnapshot snapshot = result.toSnapshot(computedAt);
+        log.debug("Inventory dashboard computed for {} products in {} ms",
+            snapshot.summary().getTotalProducts(), (System.nanoTime() - started) / 1_000_000);
+        return snapshot;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        pool.shutdownNow();
+    }
+
+    /**
+     * Accumulates a range of a batch, splitting it in halves until it fits one partition.
+     */
+    private static final class PartitionTask extends RecursiveTask<DashboardAccumulator> {
+
+        private final List<ProductSnapshot> products;
+        private final int from;
+        private final int to;
+        private final int partitionSize;
+        private final int topK;
+        private final int categoryTopK;
+
+        PartitionTask(List<ProductSnapshot> products, int from, int to, int partitionSize, int topK, int categoryTopK) {
+            this.products = products;
+            this.from = from;
+            this.to = to;
+            this.partitionSize = partitionSize;
+            this.topK = topK;
+            this.categoryTopK = categoryTopK;
+        }
+
+        @Override
+        protected DashboardAccumulator compute() {
+            if (to - from <= partitionSize) {
+                DashboardAccumulator accumulator = new DashboardAccumulator(topK, categoryTopK);
+                for (int i = from; i < to; i++) {
+                    accumulator.add(products.get(i));
+                }
+                return accumulator;
+            }
+            int middle = (from + to) >>> 1;
+            PartitionTask left = new PartitionTask(products, from, middle, partitionSize, topK, categoryTopK);
+            PartitionTask right = new PartitionTask(products, middle, to, partitionSize, topK, categoryTopK);
+            left.fork();
+            DashboardAccumulator rightResult = right.compute();
+            return left.join().merge(rightResult);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.Enterprise_Resource_Planning.inventory.analytics;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import com.example.Enterprise_Resource_Planning.inventory.dto.response.CategoryMetricsDTO;
+import com.example.Enterprise_Resource_Planning.inventory.dto.response.InventorySummaryDTO;
+import com.example.Enterprise_Resource_Planning.inventory.dto.response.ProductSummaryDTO;
+
+/**
+ * Every inventory dashboard metric, computed together from one read of the catalog.
+ *
+ * @param summary catalog totals and stock status distribution
+ * @param categoryMetrics per-category metrics, grouped and ordered by category lookup key with
+ *        uncategorized products first
+ * @param mostValuable the most valuable products, up to the configured maximum limit
+ * @param mostValuableByCategory the most valuable products per category, up to the default limit,
+ *        keyed by category lookup key
+ * @param belowMinimumStock products below their minimum stock level, in ID order
+ * @param reorderNeeded products at or below their reorder point, in ID order
+ * @param computedAt when the catalog was read
+ */
+public record InventoryDashboardSnapshot(
+        InventorySummaryDTO summary,
+        List<CategoryMetricsDTO> categoryMetrics,
+        List<ProductSummaryDTO> mostValuable,
+        Map<String, List<ProductSummaryDTO>> mostValuableByCategory,
+        List<ProductSummaryDTO> belowMinimumStock,
+        List<ProductSummaryDTO> reorderNeeded,
+        LocalDateTime computedAt) {
+
+    /**
+     * The most valuable products, optionally within one category.
+     *
+     * @param categoryKey the category lookup key, or null for the whole catalog
+     * @param limit the maximum number of products
+     */
+    public List<ProductSummaryDTO> mostValuable(String categoryKey, int limit) {
+        List<ProductSummaryDTO> ranked = categoryKey != null
+            ? mostValuableByCategory.getOrDefault(categoryKey, List.of())
+            : mostValuable;
+        return ranked.subList(0, Math.min(limit, ranked.size()));
+    }
+}
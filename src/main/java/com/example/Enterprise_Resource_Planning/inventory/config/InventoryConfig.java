@@ -0,0 +1,15 @@
+package com.example.Enterprise_Resource_Planning.inventory.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Inventory module configuration.
+ * Enables scheduling for periodic maintenance of derived inventory data.
+ */
+@Configuration
+@EnableConfigurationProperties(InventoryProperties.class)
+@EnableScheduling
+public class InventoryConfig {
+}
@@ -0,0 +1,205 @@
+package com.example.Enterprise_Resource_Planning.inventory.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/**
+ * Configuration properties for the inventory module ({@code erp.inventory.*}).
+ */
+@Data
+@ConfigurationProperties(prefix = "erp.inventory")
+public class InventoryProperties {
+
+    private final Search search = new Search();
+
+    private final Dashboard dashboard = new Dashboard();
+
+    private final Valuation valuation = new Valuation();
+
+    private final Alerts alerts = new Alerts();
+
+    /**
+     * Product search settings.
+     */
+    @Data
+    public static class Search {
+
+        /**
+         * Maintain the in-memory trigram index used for substring search.
+         */
+        private boolean trigramIndexEnabled = true;
+
+        /**
+         * Maintain the on-disk full-text index used for ranked text search.
+         */
+        private boolean fullTextEnabled = true;
+
+        /**
+         * Delay between commits of the full-text index to disk.
+         */
+        private Duration fullTextCommitInterval = Duration.ofSeconds(30);
+
+        /**
+         * Number of products read per query when rebuilding in-memory indexes.
+         */
+        private int rebuildBatchSize = 1000;
+
+        /**
+         * Maintain the in-memory prefix index used for typeahead suggestions.
+         */
+        private boolean suggestIndexEnabled = true;
+
+        /**
+         * Number of changed products after which the suggest index overlay is merged into its base.
+         */
+        private int suggestCompactionThreshold = 10_000;
+
+        /**
+         * Delay between checks whether the suggest index needs compaction.
+         */
+        private Duration suggestCompactionInterval = Duration.ofSeconds(30);
+
+        /**
+         * How long an exact count is reused as the estimated total of slice searches.
+         */
+        private Duration countCacheTtl = Duration.ofSeconds(60);
+
+        /**
+         * Maximum number of distinct filter combinations with a cached count.
+         */
+        private int countCacheMaxEntries = 1000;
+
+        /**
+         * Cache the results of criteria searches until the next product write.
+         */
+        private boolean resultCacheEnabled = true;
+
+        /**
+         * Maximum number of cached search results.
+         */
+        private long resultCacheMaxEntries = 500;
+
+        /**
+         * Upper bound on how long a search result stays cached.
+         */
+        private Duration resultCacheTtl = Duration.ofMinutes(5);
+    }
+
+    /**
+     * Inventory dashboard settings.
+     */
+    @Data
+    public static class Dashboard {
+
+        /**
+         * How the dashboard endpoints are computed. The default, {@code DATABASE}, never scans the
+         * catalog on a request: the summary sums the running-total slots, category
+         * metrics are one grouped query and the most valuable products a LIMIT query.
+         */
+        private Mode mode = Mode.DATABASE;
+
+        /**
+         * Delay between snapshot recomputations in {@code PRECOMPUTED} mode.
+         */
+        private Duration refreshInterval = Duration.ofSeconds(5);
+
+        /**
+         * Oldest snapshot served in {@code PRECOMPUTED} mode without recomputing it on request,
+         * e.g. when a scheduled refresh failed.
+         */
+        private Duration maxStaleness = Duration.ofSeconds(30);
+
+        /**
+         * Worker threads computing the dashboard snapshot; 0 uses the number of available processors.
+         */
+        private int parallelism = 0;
+
+        /**
+         * Products per fork-join leaf task when computing the dashboard snapshot.
+         */
+        private int partitionSize = 2048;
+
+        /**
+         * Number of products returned by the most-valuable-products endpoint when no limit is given.
+         */
+        private int topValuableDefaultLimit = 10;
+
+        /**
+         * Largest limit accepted by the most-valuable-products endpoint.
+         */
+        private int topValuableMaxLimit = 100;
+
+        /**
+         * Rows the running inventory totals are spread over. Each product write updates the row of
+         * its product and the summary sums them, so concurrent writes to different products rarely
+         * wait on each other. 1 keeps a single totals row, which serializes all product writes.
+         */
+        private int aggregateSlots = 16;
+
+        /**
+         * Dashboard computation modes.
+         */
+        public enum Mode {
+            DATABASE, // Each endpoint runs its own aggregate query
+            ON_DEMAND, // One snapshot computed in a single parallel pass on request, dropped on every product write
+            PRECOMPUTED // One snapshot recomputed in the background every refresh interval
+        }
+    }
+
+    /**
+     * Inventory valuation history settings.
+     */
+    @Data
+    public static class Valuation {
+
+        /**
+         * Record the catalog valuation on the snapshot schedule.
+         */
+        private boolean snapshotEnabled = true;
+
+        /**
+         * Cron expression of the valuation snapshots.
+         */
+        private String snapshotCron = "0 0 * * * *";
+
+        /**
+         * How long recorded valuations are kept.
+         */
+        private Duration retention = Duration.ofDays(730);
+
+        /**
+         * Range returned by the history endpoint when no start is given.
+         */
+        private Duration historyDefaultRange = Duration.ofDays(30);
+
+        /**
+         * Largest number of valuations returned by one history request.
+         */
+        private int historyMaxPoints = 1000;
+    }
+
+    /**
+     * Stock alert settings.
+     */
+    @Data
+    public static class Alerts {
+
+        /**
+         * Alerts buffered per stream subscriber; the oldest are dropped when a slow subscriber falls behind.
+         */
+        private int streamBufferSize = 256;
+
+        /**
+         * How long a stream subscription stays open before the client has to reconnect.
+         */
+        private Duration streamTimeout = Duration.ofMinutes(30);
+
+        /**
+         * Delay between heartbeat comments sent to idle stream subscribers.
+         */
+        private Duration streamHeartbeatInterval = Duration.ofSeconds(15);
+    }
+}
@@ -50,6 +50,7 @@ public class InventorySecurityConfig {
                 // Product Controller Filtrations
                 .requestMatchers(HttpMethod.GET, "/inventory/products/**").permitAll()
                 .requestMatchers(HttpMethod.POST, "/inventory/products").permitAll()
+                .requestMatchers(HttpMethod.POST, "/inventory/products/batch/**").permitAll()
                 .requestMatchers(HttpMethod.PUT, "/inventory/products/**").permitAll()
                 .requestMatchers(HttpMethod.PATCH, "/inventory/products/**").permitAll()
                 .requestMatchers(HttpMethod.DELETE, "/inventory/products/**").permitAll()
@@ -1,22 +1,33 @@
 package com.example.Enterprise_Resource_Planning.inventory.controller;
 
-import java.math.BigDecimal;
-import java.math.RoundingMode;
+import java.time.LocalDateTime;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
-import java.util.stream.Collectors;
 
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import com.example.Enterprise_Resource_Planning.inventory.alert.StockAlertStream;
+import com.example.Enterprise_Resource_Planning.inventory.dto.response.CategoryMetricsDTO;
+import com.example.Enterprise_Resource_Planning.inventory.dto.response.InventorySummaryDTO;
+import com.example.Enterprise_Resource_Planning.inventory.dto.response.InventoryValuationDTO;
+import com.example.Enterprise_Resource_Planning.inventory.dto.response.InventoryValuationHistoryDTO;
 import com.example.Enterprise_Resource_Planning.inventory.dto.response.ProductSummaryDTO;
-import com.example.Enterprise_Resource_Planning.inventory.service.ProductService;
+import com.example.Enterprise_Resource_Planning.inventory.service.DashboardResult;
+import com.example.Enterprise_Resource_Planning.inventory.service.InventoryDashboardService;
+import com.example.Enterprise_Resource_Planning.inventory.service.InventoryValuationService;
 
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -25,6 +36,7 @@ import lombok.RequiredArgsConstructor;
 /**
  * REST Controller for Inventory Dashboard operations.
  * Provides summary statistics and dashboard data for inventory management.
+ * Dashboard payloads carry an {@code Age} header with the seconds since their data was computed.
  */
 @RestController
 @RequestMapping("/inventory/dashboard")
@@ -32,7 +44,9 @@ import lombok.RequiredArgsConstructor;
 @Tag(name = "Inventory Dashboard", description = "APIs for inventory dashboard and statistics")
 public class InventoryDashboardController {
 
-    private final ProductService productService;
+    private final InventoryDashboardService inventoryDashboardService;
+    private final InventoryValuationService inventoryValuationService;
+    private final StockAlertStream stockAlertStream;
 
     /**
      * Get inventory dashboard summary.
@@ -42,42 +56,8 @@ public class InventoryDashboardController {
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "Summary retrieved successfully")
     })
-    public ResponseEntity<Map<String, Object>> getInventorySummary() {
-        List<ProductSummaryDTO> allProducts = productService.getAllProducts();
-        List<ProductSummaryDTO> lowStockProducts = productService.getProductsBelowMinimumStock();
-        List<ProductSummaryDTO> reorderProducts = productService.getProductsNeedingReorder();
-        
-        Map<String, Object> summary = new HashMap<>();
-        
-        // Basic counts
-        summary.put("totalProducts", allProducts.size());
-        summary.put("lowStockCount", lowStockProducts.size());
-        summary.put("reorderAlertsCount", reorderProducts.size());
-        
-        // Calculate total inventory value
-        BigDecimal totalValue = allProducts.stream()
-            .map(product -> {
-                BigDecimal price = product.getUnitPrice() != null ? product.getUnitPrice() : BigDecimal.ZERO;
-                Integer quantity = Objects.requireNonNullElse(product.getQuantityInStock(), 0);
-                return price.multiply(BigDecimal.valueOf(quantity));
-            })
-            .reduce(BigDecimal.ZERO, BigDecimal::add);
-        summary.put("totalInventoryValue", totalValue);
-        
-        // Calculate average product value
-        BigDecimal averageValue = allProducts.isEmpty() ? BigDecimal.ZERO : 
-            totalValue.divide(BigDecimal.valueOf(allProducts.size()), 2, RoundingMode.HALF_UP);
-        summary.put("averageProductValue", averageValue);
-        
-        // Status distribution
-        Map<String, Long> statusDistribution = allProducts.stream()
-            .collect(Collectors.groupingBy(
-                product -> product.getStockStatus() != null ? product.getStockStatus() : "UNKNOWN",
-                Collectors.counting()
-            ));
-        summary.put("stockStatusDistribution", statusDistribution);
-        
-        return ResponseEntity.ok(summary);
+    public ResponseEntity<InventorySummaryDTO> getInventorySummary() {
+        return withAge(inventoryDashboardService.getSummary());
     }
 
     /**
@@ -86,8 +66,7 @@ public class InventoryDashboardController {
     @GetMapping("/alerts/low-stock")
     @Operation(summary = "Get low stock alerts", description = "Get products that are below minimum stock level")
     public ResponseEntity<List<ProductSummaryDTO>> getLowStockAlerts() {
-        List<ProductSummaryDTO> products = productService.getProductsBelowMinimumStock();
-        return ResponseEntity.ok(products);
+        return withAge(inventoryDashboardService.getLowStockAlerts());
     }
 
     /**
@@ -96,8 +75,19 @@ public class InventoryDashboardController {
     @GetMapping("/alerts/reorder")
     @Operation(summary = "Get reorder alerts", description = "Get products that need to be reordered")
     public ResponseEntity<List<ProductSummaryDTO>> getReorderAlerts() {
-        List<ProductSummaryDTO> products = productService.getProductsNeedingReorder();
-        return ResponseEntity.ok(products);
+        return withAge(inventoryDashboardService.getReorderAlerts());
+    }
+
+    /**
+     * Stream stock alerts as server-sent events.
+     */
+    @GetMapping(value = "/alerts/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream stock alerts",
+        description = "Server-sent events: a 'stock-alert' event whenever a committed product change makes a product enter "
+            + "or leave the low stock or reorder condition. An 'alerts-dropped' event reports alerts lost because the "
+            + "client fell behind; the alert lists should then be reloaded.")
+    public SseEmitter streamStockAlerts() {
+        return stockAlertStream.subscribe();
     }
 
     /**
@@ -106,72 +96,73 @@ public class InventoryDashboardController {
     @GetMapping("/metrics/by-category")
     @Operation(summary = "Get metrics by category", description = "Get inventory metrics grouped by product category")
     public ResponseEntity<Map<String, Object>> getMetricsByCategory() {
-        List<ProductSummaryDTO> allProducts = productService.getAllProducts();
-        
-        Map<String, Map<String, Object>> categoryMetrics = new HashMap<>();
-        
-        // Group products by category
-        Map<String, List<ProductSummaryDTO>> productsByCategory = allProducts.stream()
-            .collect(Collectors.groupingBy(
-                product -> product.getCategory() != null ? product.getCategory() : "Uncategorized"
-            ));
-        
-        // Calculate metrics for each category
-        productsByCategory.forEach((category, products) -> {
+        DashboardResult<List<CategoryMetricsDTO>> result = inventoryDashboardService.getCategoryMetrics();
+        Map<String, Map<String, Object>> categoryMetrics = new LinkedHashMap<>();
+        for (CategoryMetricsDTO row : result.body()) {
             Map<String, Object> metrics = new HashMap<>();
-            metrics.put("productCount", products.size());
-            
-            BigDecimal totalValue = products.stream()
-                .map(product -> {
-                    BigDecimal price = product.getUnitPrice() != null ? product.getUnitPrice() : BigDecimal.ZERO;
-                    Integer quantity = Objects.requireNonNullElse(product.getQuantityInStock(), 0);
-                    return price.multiply(BigDecimal.valueOf(quantity));
-                })
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-            metrics.put("totalValue", totalValue);
-            
-            long lowStockCount = products.stream()
-                .filter(product -> "LOW".equals(product.getStockStatus()) || "OUT_OF_STOCK".equals(product.getStockStatus()))
-                .count();
-            metrics.put("lowStockCount", lowStockCount);
-            
-            categoryMetrics.put(category, metrics);
-        });
+            metrics.put("productCount", row.getProductCount());
+            metrics.put("totalValue", row.getTotalValue());
+            metrics.put("lowStockCount", row.getLowStockCount());
+            categoryMetrics.put(row.getCategory() != null ? row.getCategory() : "Uncategorized", metrics);
+        }
         
         Map<String, Object> response = new HashMap<>();
         response.put("categoryMetrics", categoryMetrics);
         response.put("totalCategories", categoryMetrics.size());
         
-        return ResponseEntity.ok(response);
+        return withAge(new DashboardResult<>(response, result.computedAt()));
     }
 
     /**
      * Get top valuable products.
      */
     @GetMapping("/top-valuable")
-    @Operation(summary = "Get top valuable products", description = "Get products with highest inventory value")
-    public ResponseEntity<List<ProductSummaryDTO>> getTopValuableProducts() {
-        List<ProductSummaryDTO> allProducts = productService.getAllProducts();
-        
-        // Sort by inventory value (price * quantity) in descending order
-        List<ProductSummaryDTO> topProducts = allProducts.stream()
-            .sorted((p1, p2) -> {
-                BigDecimal value1 = calculateInventoryValue(p1);
-                BigDecimal value2 = calculateInventoryValue(p2);
-                return value2.compareTo(value1); // Descending order
-            })
-            .limit(10) // Top 10
-            .toList();
-        
-        return ResponseEntity.ok(topProducts);
+    @Operation(summary = "Get top valuable products", description = "Get products with highest inventory value, optionally within one category")
+    public ResponseEntity<List<ProductSummaryDTO>> getTopValuableProducts(
+            @Parameter(description = "Number of products to return (defaults to erp.inventory.dashboard.top-valuable-default-limit)")
+            @RequestParam(required = false) Integer limit,
+            @Parameter(description = "Only include products in this category")
+            @RequestParam(required = false) String category) {
+        return withAge(inventoryDashboardService.getMostValuableProducts(limit, category));
+    }
+
+    /**
+     * Get recorded inventory valuations.
+     */
+    @GetMapping("/history")
+    @Operation(summary = "Get valuation history", description = "Get the inventory valuations recorded within a time range, oldest first")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "History retrieved successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid time range")
+    })
+    public ResponseEntity<InventoryValuationHistoryDTO> getValuationHistory(
+            @Parameter(description = "Start of the range, ISO date-time (defaults to erp.inventory.valuation.history-default-range before the end)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @Parameter(description = "End of the range, ISO date-time (defaults to now)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        return ResponseEntity.ok(inventoryValuationService.getHistory(from, to));
     }
 
     /**
-     * Helper method to calculate inventory value for a product.
+     * Get the inventory valuation as of a point in time.
      */
-    private BigDecimal calculateInventoryValue(ProductSummaryDTO product) {
-        BigDecimal price = product.getUnitPrice() != null ? product.getUnitPrice() : BigDecimal.ZERO;
-        Integer quantity = Objects.requireNonNullElse(product.getQuantityInStock(), 0);
-        return price.multiply(BigDecimal.valueOf(quantity));
+    @GetMapping("/history/as-of")
+    @Operation(summary = "Get valuation as of a point in time", description = "Get the latest inventory valuation recorded at or before a point in time")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Valuation found"),
+        @ApiResponse(responseCode = "404", description = "No valuation recorded by then")
+    })
+    public ResponseEntity<InventoryValuationDTO> getValuationAsOf(
+            @Parameter(description = "Point in time, ISO date-time")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime at) {
+        return inventoryValuationService.getValuationAsOf(at)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    private static <T> ResponseEntity<T> withAge(DashboardResult<T> result) {
+        return ResponseEntity.ok()
+                .header(HttpHeaders.AGE, Long.toString(result.ageSeconds()))
+                .body(result.body());
     }
 }
@@ -1,9 +1,12 @@
 package com.example.Enterprise_Resource_Planning.inventory.controller;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
 
 import org.springframework.data.domain.Page;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -16,14 +19,22 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.example.Enterprise_Resource_Planning.inventory.dto.request.ProductCreateDTO;
 import com.example.Enterprise_Resource_Planning.inventory.dto.request.ProductSearchCriteria;
 import com.example.Enterprise_Resource_Planning.inventory.dto.request.ProductUpdateDTO;
+import com.example.Enterprise_Resource_Planning.inventory.dto.response.CursorPageDTO;
+import com.example.Enterprise_Resource_Planning.inventory.dto.response.FacetedPageDTO;
+import com.example.Enterprise_Resource_Planning.inventory.dto.response.ProductBatchLookupDTO;
 import com.example.Enterprise_Resource_Planning.inventory.dto.response.ProductResponseDTO;
+import com.example.Enterprise_Resource_Planning.inventory.dto.response.ProductSearchHitDTO;
+import com.example.Enterprise_Resource_Planning.inventory.dto.response.ProductSuggestionDTO;
 import com.example.Enterprise_Resource_Planning.inventory.dto.response.ProductSummaryDTO;
+import com.example.Enterprise_Resource_Planning.inventory.dto.response.SlicePageDTO;
 import com.example.Enterprise_Resource_Planning.inventory.model.ProductStatus;
 import com.example.Enterprise_Resource_Planning.inventory.service.ProductService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -31,6 +42,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import lombok.RequiredArgsConstructor;
@@ -47,6 +59,7 @@ import lombok.RequiredArgsConstructor;
 public class ProductController {
 
     private final ProductService productService;
+    private final ObjectMapper objectMapper;
 
     // ===================================
     // CRUD OPERATIONS
@@ -98,6 +111,26 @@ public class ProductController {
         return ResponseEntity.ok(product);
     }
 
+    /**
+     * Get many products by ID in one request.
+     */
+    @PostMapping("/batch/ids")
+    @Operation(summary = "Get products by IDs", description = "Retrieves up to 5000 products by ID; results and misses keep the request order")
+    public ResponseEntity<ProductBatchLookupDTO<Long>> getProductsByIds(@RequestBody List<Long> ids) {
+        ProductBatchLookupDTO<Long> products = productService.getProductsByIds(ids);
+        return ResponseEntity.ok(products);
+    }
+
+    /**
+     * Get many products by SKU in one request.
+     */
+    @PostMapping("/batch/skus")
+    @Operation(summary = "Get products by SKUs", description = "Retrieves up to 5000 products by SKU; results and misses keep the request order")
+    public ResponseEntity<ProductBatchLookupDTO<String>> getProductsBySkus(@RequestBody List<String> skus) {
+        ProductBatchLookupDTO<String> products = productService.getProductsBySkus(skus);
+        return ResponseEntity.ok(products);
+    }
+
     /**
      * Update an existing product.
      */
@@ -144,6 +177,28 @@ public class ProductController {
         return ResponseEntity.ok(products);
     }
 
+    /**
+     * Export the full catalog as newline-delimited JSON.
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Export all products", description = "Streams every product as one JSON object per line")
+    public ResponseEntity<StreamingResponseBody> exportProducts() {
+        StreamingResponseBody body = outputStream -> {
+            productService.exportProducts(product -> {
+                try {
+                    outputStream.write(objectMapper.writeValueAsBytes(product));
+                    outputStream.write('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            outputStream.flush();
+        };
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .body(body);
+    }
+
     /**
      * Search products with criteria.
      */
@@ -159,9 +214,25 @@ public class ProductController {
      * Search products with pagination.
      */
     @PostMapping("/search/pageable")
-    @Operation(summary = "Search products with pagination", description = "Search products with pagination support")
-    public ResponseEntity<Page<ProductSummaryDTO>> searchProductsPageable(
+    @Operation(summary = "Search products with pagination",
+        description = "Search products with pagination support. Set pagingMode to SLICE to skip the total count "
+            + "(optionally with estimateTotal), or to CURSOR, or pass the cursor returned by the previous page, "
+            + "for keyset pagination without a total count. Set includeFacets to also receive category, "
+            + "supplier and status counts")
+    public ResponseEntity<?> searchProductsPageable(
             @RequestBody ProductSearchCriteria criteria) {
+        if (criteria != null && criteria.isCursorMode()) {
+            CursorPageDTO<ProductSummaryDTO> products = productService.searchProductsByCursor(criteria);
+            return ResponseEntity.ok(products);
+        }
+        if (criteria != null && criteria.isFacetedMode()) {
+            FacetedPageDTO<ProductSummaryDTO> products = productService.searchProductsFaceted(criteria);
+            return ResponseEntity.ok(products);
+        }
+        if (criteria != null && criteria.isSliceMode()) {
+            SlicePageDTO<ProductSummaryDTO> products = productService.searchProductsSlice(criteria);
+            return ResponseEntity.ok(products);
+        }
         Page<ProductSummaryDTO> products = productService.searchProductsPageable(criteria);
         return ResponseEntity.ok(products);
     }
@@ -177,6 +248,52 @@ public class ProductController {
         return ResponseEntity.ok(products);
     }
 
+    /**
+     * Search products by SKU.
+     */
+    @GetMapping("/search/sku")
+    @Operation(summary = "Search by SKU", description = "Search products by SKU (partial match)")
+    public ResponseEntity<List<ProductSummaryDTO>> searchBySku(
+            @Parameter(description = "SKU fragment to search") @RequestParam @NotBlank String sku) {
+        List<ProductSummaryDTO> products = productService.searchProductsBySku(sku);
+        return ResponseEntity.ok(products);
+    }
+
+    /**
+     * Search products by description.
+     */
+    @GetMapping("/search/description")
+    @Operation(summary = "Search by description", description = "Search products by description (partial match)")
+    public ResponseEntity<List<ProductSummaryDTO>> searchByDescription(
+            @Parameter(description = "Description fragment to search") @RequestParam @NotBlank String text) {
+        List<ProductSummaryDTO> products = productService.searchProductsByDescription(text);
+        return ResponseEntity.ok(products);
+    }
+
+    /**
+     * Ranked full-text search.
+     */
+    @GetMapping("/search/text")
+    @Operation(summary = "Full-text search", description = "Best-match search over name, description, category, supplier and SKU")
+    public ResponseEntity<List<ProductSearchHitDTO>> searchByText(
+            @Parameter(description = "Free-text query") @RequestParam @NotBlank String q,
+            @Parameter(description = "Maximum number of results") @RequestParam(defaultValue = "20") @Min(1) @Max(100) Integer limit) {
+        List<ProductSearchHitDTO> results = productService.searchProductsByText(q, limit);
+        return ResponseEntity.ok(results);
+    }
+
+    /**
+     * Typeahead suggestions by name or SKU prefix.
+     */
+    @GetMapping("/suggest")
+    @Operation(summary = "Suggest products", description = "Products whose name or SKU starts with the prefix, highest inventory value first")
+    public ResponseEntity<List<ProductSuggestionDTO>> suggest(
+            @Parameter(description = "Typed prefix") @RequestParam @NotBlank String q,
+            @Parameter(description = "Maximum number of suggestions") @RequestParam(defaultValue = "10") @Min(1) @Max(50) Integer limit) {
+        List<ProductSuggestionDTO> suggestions = productService.suggestProducts(q, limit);
+        return ResponseEntity.ok(suggestions);
+    }
+
     /**
      * Search products by category.
      */
@@ -231,6 +348,25 @@ public class ProductController {
         return ResponseEntity.ok(updatedProduct);
     }
 
+    /**
+     * Adjust product stock by a signed quantity.
+     */
+    @PatchMapping("/{id}/stock/adjust")
+    @Operation(summary = "Adjust stock", description = "Adds a signed quantity to the stock of a product in one atomic update; "
+            + "negative quantities remove stock")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Stock adjusted successfully"),
+        @ApiResponse(responseCode = "404", description = "Product not found"),
+        @ApiResponse(responseCode = "400", description = "Invalid adjustment"),
+        @ApiResponse(responseCode = "409", description = "Insufficient stock")
+    })
+    public ResponseEntity<ProductResponseDTO> adjustStock(
+            @Parameter(description = "Product ID") @PathVariable @Min(1) Long id,
+            @Parameter(description = "Quantity to add, negative to remove stock") @RequestParam Integer delta) {
+        ProductResponseDTO updatedProduct = productService.adjustProductStock(id, delta);
+        return ResponseEntity.ok(updatedProduct);
+    }
+
     /**
      * Get products needing reorder.
      */
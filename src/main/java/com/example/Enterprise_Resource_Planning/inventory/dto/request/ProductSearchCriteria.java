@@ -43,6 +43,23 @@ public class ProductSearchCriteria {
     private Integer page = 0;
     private Integer size = 20;
     
+    // Keyset pagination (pageable search only)
+    private PagingMode pagingMode = PagingMode.OFFSET;
+    private String cursor; // Opaque token from the previous page; implies CURSOR mode
+    private Boolean estimateTotal; // SLICE mode only: include an estimated total count
+    
+    // Faceted search (pageable search only, not combined with CURSOR mode)
+    private Boolean includeFacets; // Return category, supplier and status counts with the page
+    
+    /**
+     * Pagination strategy for the pageable search.
+     */
+    public enum PagingMode {
+        OFFSET, // Page number + size, with a total count
+        SLICE,  // Page number + size, reports hasNext instead of a total count
+        CURSOR  // Keyset seek from an opaque cursor, no count
+    }
+    
     /**
      * Check if any search criteria is provided
      */
@@ -56,6 +73,50 @@ public class ProductSearchCriteria {
                 (needsReorder != null && needsReorder);
         }
     
+    /**
+     * Check if the pageable search should use keyset (cursor) pagination
+     */
+    public boolean isCursorMode() {
+        return pagingMode == PagingMode.CURSOR || (cursor != null && !cursor.isBlank());
+    }
+    
+    /**
+     * Check if the pageable search should skip the total count
+     */
+    public boolean isSliceMode() {
+        return pagingMode == PagingMode.SLICE && !isCursorMode() && !isFacetedMode();
+    }
+    
+    /**
+     * Check if the pageable search should return facet counts with the page
+     */
+    public boolean isFacetedMode() {
+        return Boolean.TRUE.equals(includeFacets) && !isCursorMode();
+    }
+    
+    /**
+     * Copy of these criteria with only the filters set, without paging and sorting.
+     * Suitable as a cache key for results that do not depend on the page.
+     */
+    public ProductSearchCriteria filtersOnly() {
+        ProductSearchCriteria filters = new ProductSearchCriteria();
+        filters.setSku(sku);
+        filters.setNameContaining(nameContaining);
+        filters.setDescriptionContaining(descriptionContaining);
+        filters.setMinPrice(minPrice);
+        filters.setMaxPrice(maxPrice);
+        filters.setStatus(status);
+        filters.setMinQuantity(minQuantity);
+        filters.setMaxQuantity(maxQuantity);
+        filters.setCategory(category);
+        filters.setSupplier(supplier);
+        filters.setMinWeight(minWeight);
+        filters.setMaxWeight(maxWeight);
+        filters.setBelowMinimumStock(belowMinimumStock);
+        filters.setNeedsReorder(needsReorder);
+        return filters;
+    }
+    
     /**
      * Validate price range
      */
@@ -0,0 +1,21 @@
+package com.example.Enterprise_Resource_Planning.inventory.dto.response;
+
+import java.math.BigDecimal;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Inventory metrics of one product category.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CategoryMetricsDTO {
+
+    private String category; // Null for products without a category
+    private long productCount;
+    private BigDecimal totalValue;
+    private long lowStockCount; // Products whose stock status is LOW or OUT_OF_STOCK
+}
@@ -0,0 +1,24 @@
+package com.example.Enterprise_Resource_Planning.inventory.dto.response;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Response DTO for keyset (cursor) paginated results.
+ * Carries no total count; clients follow {@code nextCursor} until {@code hasNext} is false.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageDTO<T> {
+
+    private List<T> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor; // null on the last page
+}
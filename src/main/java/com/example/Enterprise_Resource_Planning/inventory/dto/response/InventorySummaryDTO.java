@@ -0,0 +1,66 @@
+package com.example.Enterprise_Resource_Planning.inventory.dto.response;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.example.Enterprise_Resource_Planning.inventory.model.InventoryTotals;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Inventory dashboard summary: catalog size, inventory value and stock status counts.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class InventorySummaryDTO {
+
+    private long totalProducts;
+    private long lowStockCount; // Products below their minimum stock level
+    private long reorderAlertsCount; // Products at or below their reorder point
+    private BigDecimal totalInventoryValue;
+    private BigDecimal averageProductValue;
+    private Map<String, Long> stockStatusDistribution; // Only statuses with at least one product
+    private LocalDateTime updatedAt; // Time of the last change to the totals
+
+    /**
+     * Build the summary of a set of catalog totals.
+     *
+     * @param totals the totals
+     * @param updatedAt when the totals were last changed or computed, may be null
+     */
+    public static InventorySummaryDTO of(InventoryTotals totals, LocalDateTime updatedAt) {
+        BigDecimal averageValue = totals.productCount() == 0 ? BigDecimal.ZERO
+            : totals.totalValue().divide(BigDecimal.valueOf(totals.productCount()), 2, RoundingMode.HALF_UP);
+
+        Map<String, Long> statusDistribution = new LinkedHashMap<>();
+        putIfPresent(statusDistribution, "NORMAL", totals.normalCount());
+        putIfPresent(statusDistribution, "LOW", totals.lowCount());
+        putIfPresent(statusDistribution, "CRITICAL", totals.criticalCount());
+        putIfPresent(statusDistribution, "OUT_OF_STOCK", totals.outOfStockCount());
+        putIfPresent(statusDistribution, "UNKNOWN", totals.unknownCount());
+
+        return InventorySummaryDTO.builder()
+            .totalProducts(totals.productCount())
+            .lowStockCount(totals.belowMinimumStockCount())
+            .reorderAlertsCount(totals.reorderNeededCount())
+            .totalInventoryValue(totals.totalValue())
+            .averageProductValue(averageValue)
+            .stockStatusDistribution(statusDistribution)
+            .updatedAt(updatedAt)
+            .build();
+    }
+
+    private static void putIfPresent(Map<String, Long> distribution, String status, long count) {
+        if (count > 0) {
+            distribution.put(status, count);
+        }
+    }
+}
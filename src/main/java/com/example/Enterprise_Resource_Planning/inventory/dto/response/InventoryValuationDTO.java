@@ -0,0 +1,27 @@
+package com.example.Enterprise_Resource_Planning.inventory.dto.response;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Recorded catalog valuation: inventory value in total and per category, and stock status counts.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class InventoryValuationDTO {
+
+    private LocalDateTime capturedAt;
+    private long totalProducts;
+    private BigDecimal totalInventoryValue;
+    private Map<String, Long> stockStatusDistribution; // Only statuses with at least one product
+    private List<CategoryMetricsDTO> categories; // Ordered by category
+}
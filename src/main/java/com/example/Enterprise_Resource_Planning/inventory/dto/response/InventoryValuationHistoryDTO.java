@@ -0,0 +1,24 @@
+package com.example.Enterprise_Resource_Planning.inventory.dto.response;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Recorded catalog valuations within a time range.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class InventoryValuationHistoryDTO {
+
+    private LocalDateTime from;
+    private LocalDateTime to;
+    private List<InventoryValuationDTO> valuations; // Oldest first
+    private boolean truncated; // More valuations exist in the range than the configured maximum
+}
@@ -0,0 +1,24 @@
+package com.example.Enterprise_Resource_Planning.inventory.dto.response;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Response DTO for a batch lookup of products by ID or SKU.
+ * Found products and missing keys both keep the order of the request.
+ *
+ * @param <K> the lookup key type (ID or SKU)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductBatchLookupDTO<K> {
+
+    private List<ProductResponseDTO> products;
+    private List<K> missing;
+}
@@ -0,0 +1,27 @@
+package com.example.Enterprise_Resource_Planning.inventory.dto.response;
+
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Facet histograms of a product search: the number of matching products
+ * per category, supplier and status. Products without a category or supplier
+ * are counted under {@link #UNSPECIFIED}.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductFacetsDTO {
+
+    public static final String UNSPECIFIED = "Unspecified";
+
+    private Map<String, Long> categories;
+    private Map<String, Long> suppliers;
+    private Map<String, Long> statuses;
+    private long total; // Number of matching products, equal to the sum of each histogram
+}
@@ -0,0 +1,19 @@
+package com.example.Enterprise_Resource_Planning.inventory.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Response DTO for a ranked full-text search result.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductSearchHitDTO {
+    
+    private ProductSummaryDTO product;
+    private float score; // BM25 relevance, higher is better
+}
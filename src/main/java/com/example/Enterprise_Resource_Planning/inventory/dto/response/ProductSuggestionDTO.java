@@ -0,0 +1,23 @@
+package com.example.Enterprise_Resource_Planning.inventory.dto.response;
+
+import java.math.BigDecimal;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Response DTO for a typeahead suggestion.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductSuggestionDTO {
+
+    private Long id;
+    private String sku;
+    private String name;
+    private BigDecimal inventoryValue; // unitPrice * quantityInStock, suggestions are ranked by it
+}
@@ -0,0 +1,26 @@
+package com.example.Enterprise_Resource_Planning.inventory.dto.response;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Response DTO for count-free (slice) paginated results.
+ * Reports whether a next page exists instead of an exact total; {@code estimatedTotal}
+ * is only filled in when the client asks for it and may lag behind recent writes.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SlicePageDTO<T> {
+
+    private List<T> content;
+    private int page;
+    private int size;
+    private boolean hasNext;
+    private Long estimatedTotal; // null unless estimateTotal was requested
+}
@@ -0,0 +1,37 @@
+package com.example.Enterprise_Resource_Planning.inventory.event;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Publishes a ProductChangeCommittedEvent for every ProductChangedEvent once the writing
+ * transaction has committed. Changes that roll back or are published outside a transaction
+ * are dropped, as with an after-commit @TransactionalEventListener; exceptions thrown by
+ * the committed-event listeners are logged by the transaction manager, not rethrown.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductChangeCommitRelay {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @EventListener
+    public void onProductChanged(ProductChangedEvent event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    eventPublisher.publishEvent(new ProductChangeCommittedEvent(event));
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.Enterprise_Resource_Planning.inventory.event;
+
+/**
+ * Published by ProductChangeCommitRelay once the transaction of a ProductChangedEvent has committed.
+ * Listeners that keep derived in-memory state (search indexes, caches, alert sets) consume this
+ * event instead of an after-commit @TransactionalEventListener. They rebuild their state on startup,
+ * so they gain nothing from the Spring Modulith publication registry, which would insert and
+ * complete one event_publication row per listener and product write.
+ *
+ * @param change the committed product change
+ */
+public record ProductChangeCommittedEvent(ProductChangedEvent change) {
+}
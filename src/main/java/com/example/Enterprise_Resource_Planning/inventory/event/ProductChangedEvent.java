@@ -0,0 +1,43 @@
+package com.example.Enterprise_Resource_Planning.inventory.event;
+
+import com.example.Enterprise_Resource_Planning.inventory.model.ProductSnapshot;
+
+/**
+ * Published by ProductService whenever a product is created, updated or deleted.
+ * Listeners of this event run inside the writing transaction; listeners that maintain
+ * derived in-memory state consume the ProductChangeCommittedEvent published after commit.
+ *
+ * @param type the kind of change
+ * @param previous the product state before the change, null for creations
+ * @param current the product state after the change, null for deletions
+ */
+public record ProductChangedEvent(ChangeType type, ProductSnapshot previous, ProductSnapshot current) {
+
+    /**
+     * Kind of product change.
+     */
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    public static ProductChangedEvent created(ProductSnapshot current) {
+        return new ProductChangedEvent(ChangeType.CREATED, null, current);
+    }
+
+    public static ProductChangedEvent updated(ProductSnapshot previous, ProductSnapshot current) {
+        return new ProductChangedEvent(ChangeType.UPDATED, previous, current);
+    }
+
+    public static ProductChangedEvent deleted(ProductSnapshot previous) {
+        return new ProductChangedEvent(ChangeType.DELETED, previous, null);
+    }
+
+    /**
+     * ID of the changed product.
+     */
+    public Long productId() {
+        return current != null ? current.id() : previous.id();
+    }
+}
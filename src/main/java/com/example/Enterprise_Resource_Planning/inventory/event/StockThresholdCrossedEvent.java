@@ -0,0 +1,14 @@
+package com.example.Enterprise_Resource_Planning.inventory.event;
+
+import com.example.Enterprise_Resource_Planning.inventory.alert.StockAlert;
+
+/**
+ * Published by StockAlertEngine, inside the transaction of the product write, when a product
+ * enters or leaves the low stock or reorder condition. The publication is recorded by the
+ * Spring Modulith event publication registry, so listeners consuming it after commit are
+ * retried if the application stops before they complete.
+ *
+ * @param alert the threshold crossing
+ */
+public record StockThresholdCrossedEvent(StockAlert alert) {
+}
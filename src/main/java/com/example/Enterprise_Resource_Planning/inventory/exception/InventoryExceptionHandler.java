@@ -91,6 +91,22 @@ public class InventoryExceptionHandler {
         return new ResponseEntity<>(errorResponse, HttpStatus.CONFLICT);
     }
 
+    /**
+     * Handle stock adjustments that would leave a negative quantity in stock.
+     */
+    @ExceptionHandler(InsufficientStockException.class)
+    public ResponseEntity<ErrorResponse> handleInsufficientStockException(InsufficientStockException ex) {
+        log.warn("Insufficient stock: {}", ex.getMessage());
+        
+        ErrorResponse errorResponse = new ErrorResponse(
+            ex.getMessage(),
+            "INSUFFICIENT_STOCK",
+            HttpStatus.CONFLICT.value()
+        );
+        
+        return new ResponseEntity<>(errorResponse, HttpStatus.CONFLICT);
+    }
+
     /**
      * Handle invalid product data exceptions.
      */
@@ -123,6 +139,22 @@ public class InventoryExceptionHandler {
         return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
     }
 
+    /**
+     * Handle searches against a disabled search index.
+     */
+    @ExceptionHandler(SearchUnavailableException.class)
+    public ResponseEntity<ErrorResponse> handleSearchUnavailableException(SearchUnavailableException ex) {
+        log.warn("Search unavailable: {}", ex.getMessage());
+        
+        ErrorResponse errorResponse = new ErrorResponse(
+            ex.getMessage(),
+            "SEARCH_UNAVAILABLE",
+            HttpStatus.SERVICE_UNAVAILABLE.value()
+        );
+        
+        return new ResponseEntity<>(errorResponse, HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
     /**
      * Handle Bean Validation errors (from @Valid annotations).
      */
@@ -1,6 +1,7 @@
 package com.example.Enterprise_Resource_Planning.inventory.mapper;
 
 import java.util.List;
+import java.util.Locale;
 import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Component;
@@ -10,6 +11,7 @@ import com.example.Enterprise_Resource_Planning.inventory.dto.request.ProductUpd
 import com.example.Enterprise_Resource_Planning.inventory.dto.response.ProductResponseDTO;
 import com.example.Enterprise_Resource_Planning.inventory.dto.response.ProductSummaryDTO;
 import com.example.Enterprise_Resource_Planning.inventory.model.Product;
+import com.example.Enterprise_Resource_Planning.inventory.model.ProductSnapshot;
 
 /**
  * Mapper for converting between Product entities and DTOs.
@@ -38,6 +40,7 @@ public class ProductMapper {
         product.setWeightKg(dto.getWeightKg());
         product.setMinimumStockLevel(dto.getMinimumStockLevel());
         product.setReorderPoint(dto.getReorderPoint());
+        applyLookupKeys(product);
         
         return product;
     }
@@ -84,6 +87,29 @@ public class ProductMapper {
         if (dto.getReorderPoint() != null) {
             existingProduct.setReorderPoint(dto.getReorderPoint());
         }
+        applyLookupKeys(existingProduct);
+    }
+
+    /**
+     * Normalize a category or supplier name into its indexed lookup form.
+     * Lookups must normalize their input the same way before querying.
+     *
+     * @param value the display value
+     * @return the trimmed, lower-case key, or null if the value is null or blank
+     */
+    public static String toLookupKey(String value) {
+        if (value == null || value.trim().isEmpty()) {
+            return null;
+        }
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Keep the normalized lookup columns in sync with category and supplier
+     */
+    private void applyLookupKeys(Product product) {
+        product.setCategoryKey(toLookupKey(product.getCategory()));
+        product.setSupplierKey(toLookupKey(product.getSupplier()));
     }
 
     /**
@@ -142,6 +168,23 @@ public class ProductMapper {
                 .build();
     }
 
+    /**
+     * Convert a ProductSnapshot to ProductSummaryDTO, for lists maintained in memory
+     */
+    public static ProductSummaryDTO toSnapshotSummary(ProductSnapshot product) {
+        return ProductSummaryDTO.builder()
+                .id(product.id())
+                .sku(product.sku())
+                .name(product.name())
+                .unitPrice(product.unitPrice())
+                .status(product.status())
+                .quantityInStock(product.quantityInStock())
+                .category(product.category())
+                .needsReorder(product.reorderNeeded())
+                .stockStatus(product.stockStatus())
+                .build();
+    }
+
     /**
      * Convert list of Product entities to ProductResponseDTO list
      */
@@ -0,0 +1,90 @@
+package com.example.Enterprise_Resource_Planning.inventory.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * One slot of the running inventory totals. The catalog totals are the sum of all slots;
+ * InventoryAggregateService adds the delta of every product write to the slot of its product,
+ * so writes to different products do not contend for one row, and the dashboard summary
+ * is read without scanning the products table.
+ */
+@Entity
+@Table(name = "inventory_aggregates")
+@Getter
+@Setter
+@NoArgsConstructor
+public class InventoryAggregate {
+
+    @Id
+    private Long id;
+
+    @Column(name = "product_count", nullable = false)
+    private long productCount;
+
+    @Column(name = "total_value", precision = 23, scale = 2, nullable = false)
+    private BigDecimal totalValue = BigDecimal.ZERO;
+
+    @Column(name = "normal_count", nullable = false)
+    private long normalCount;
+
+    @Column(name = "low_count", nullable = false)
+    private long lowCount;
+
+    @Column(name = "critical_count", nullable = false)
+    private long criticalCount;
+
+    @Column(name = "out_of_stock_count", nullable = false)
+    private long outOfStockCount;
+
+    @Column(name = "unknown_count", nullable = false)
+    private long unknownCount;
+
+    @Column(name = "below_minimum_stock_count", nullable = false)
+    private long belowMinimumStockCount;
+
+    @Column(name = "reorder_needed_count", nullable = false)
+    private long reorderNeededCount;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    /**
+     * Sum of all slots as read by InventoryAggregateRepository#sumSlots; not persisted.
+     */
+    public InventoryAggregate(long productCount, BigDecimal totalValue, long normalCount, long lowCount,
+                              long criticalCount, long outOfStockCount, long unknownCount,
+                              long belowMinimumStockCount, long reorderNeededCount, LocalDateTime updatedAt) {
+        setTotals(new InventoryTotals(productCount, totalValue, normalCount, lowCount, criticalCount,
+            outOfStockCount, unknownCount, belowMinimumStockCount, reorderNeededCount), updatedAt);
+    }
+
+    /**
+     * Overwrite all totals, e.g. after recomputing them from the products table.
+     */
+    public void setTotals(InventoryTotals totals, LocalDateTime updatedAt) {
+        this.productCount = totals.productCount();
+        this.totalValue = totals.totalValue();
+        this.normalCount = totals.normalCount();
+        this.lowCount = totals.lowCount();
+        this.criticalCount = totals.criticalCount();
+        this.outOfStockCount = totals.outOfStockCount();
+        this.unknownCount = totals.unknownCount();
+        this.belowMinimumStockCount = totals.belowMinimumStockCount();
+        this.reorderNeededCount = totals.reorderNeededCount();
+        this.updatedAt = updatedAt;
+    }
+
+    public InventoryTotals getTotals() {
+        return new InventoryTotals(productCount, totalValue, normalCount, lowCount, criticalCount,
+            outOfStockCount, unknownCount, belowMinimumStockCount, reorderNeededCount);
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.Enterprise_Resource_Planning.inventory.model;
+
+import java.math.BigDecimal;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Inventory value of one product category in an {@link InventoryValuation}.
+ */
+@Entity
+@Table(name = "inventory_category_valuations", indexes = {
+    @Index(name = "idx_inventory_category_valuation", columnList = "valuation_id, category")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+public class InventoryCategoryValuation {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "valuation_id", nullable = false)
+    private Long valuationId;
+
+    @Column(name = "category", length = 100)
+    private String category; // Null for products without a category
+
+    @Column(name = "product_count", nullable = false)
+    private long productCount;
+
+    @Column(name = "total_value", precision = 23, scale = 2, nullable = false)
+    private BigDecimal totalValue = BigDecimal.ZERO;
+
+    @Column(name = "low_stock_count", nullable = false)
+    private long lowStockCount;
+}
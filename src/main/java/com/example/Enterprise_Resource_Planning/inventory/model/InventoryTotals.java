@@ -0,0 +1,78 @@
+package com.example.Enterprise_Resource_Planning.inventory.model;
+
+import java.math.BigDecimal;
+
+/**
+ * Additive inventory totals: product count, inventory value and the number of products
+ * per stock status and stock condition. Used both for the totals of the whole catalog
+ * and for the change a single product write makes to them.
+ */
+public record InventoryTotals(
+        long productCount,
+        BigDecimal totalValue,
+        long normalCount,
+        long lowCount,
+        long criticalCount,
+        long outOfStockCount,
+        long unknownCount,
+        long belowMinimumStockCount,
+        long reorderNeededCount) {
+
+    public static final InventoryTotals ZERO = new InventoryTotals(0, BigDecimal.ZERO, 0, 0, 0, 0, 0, 0, 0);
+
+    /**
+     * Contribution of a single product to the totals.
+     *
+     * @param product the product state, may be null
+     * @return the product's contribution, or {@link #ZERO} if the product is null
+     */
+    public static InventoryTotals of(ProductSnapshot product) {
+        if (product == null) {
+            return ZERO;
+        }
+        String stockStatus = product.stockStatus();
+        return new InventoryTotals(
+            1,
+            product.inventoryValue(),
+            "NORMAL".equals(stockStatus) ? 1 : 0,
+            "LOW".equals(stockStatus) ? 1 : 0,
+            "CRITICAL".equals(stockStatus) ? 1 : 0,
+            "OUT_OF_STOCK".equals(stockStatus) ? 1 : 0,
+            "UNKNOWN".equals(stockStatus) ? 1 : 0,
+            product.belowMinimumStock() ? 1 : 0,
+            product.reorderNeeded() ? 1 : 0);
+    }
+
+    /**
+     * Change a product write makes to the totals.
+     *
+     * @param previous the product state before the write, null for creations
+     * @param current the product state after the write, null for deletions
+     */
+    public static InventoryTotals delta(ProductSnapshot previous, ProductSnapshot current) {
+        return of(current).minus(of(previous));
+    }
+
+    public InventoryTotals minus(InventoryTotals other) {
+        return new InventoryTotals(
+            productCount - other.productCount,
+            totalValue.subtract(other.totalValue),
+            normalCount - other.normalCount,
+            lowCount - other.lowCount,
+            criticalCount - other.criticalCount,
+            outOfStockCount - other.outOfStockCount,
+            unknownCount - other.unknownCount,
+            belowMinimumStockCount - other.belowMinimumStockCount,
+            reorderNeededCount - other.reorderNeededCount);
+    }
+
+    /**
+     * Whether applying these totals as a delta would change nothing.
+     */
+    public boolean isZero() {
+        return productCount == 0 && totalValue.signum() == 0
+            && normalCount == 0 && lowCount == 0 && criticalCount == 0
+            && outOfStockCount == 0 && unknownCount == 0
+            && belowMinimumStockCount == 0 && reorderNeededCount == 0;
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.Enterprise_Resource_Planning.inventory.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Catalog inventory value and stock status distribution at one point in time,
+ * recorded periodically by InventoryValuationService. Per-category values of
+ * the same capture are stored as {@link InventoryCategoryValuation} rows.
+ */
+@Entity
+@Table(name = "inventory_valuations", indexes = {
+    @Index(name = "idx_inventory_valuation_captured_at", columnList = "captured_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+public class InventoryValuation {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "captured_at", nullable = false)
+    private LocalDateTime capturedAt;
+
+    @Column(name = "product_count", nullable = false)
+    private long productCount;
+
+    @Column(name = "total_value", precision = 23, scale = 2, nullable = false)
+    private BigDecimal totalValue = BigDecimal.ZERO;
+
+    @Column(name = "normal_count", nullable = false)
+    private long normalCount;
+
+    @Column(name = "low_count", nullable = false)
+    private long lowCount;
+
+    @Column(name = "critical_count", nullable = false)
+    private long criticalCount;
+
+    @Column(name = "out_of_stock_count", nullable = false)
+    private long outOfStockCount;
+
+    @Column(name = "unknown_count", nullable = false)
+    private long unknownCount;
+}
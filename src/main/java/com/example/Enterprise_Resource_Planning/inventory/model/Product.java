@@ -13,6 +13,8 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Index;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.DecimalMax;
 import jakarta.validation.constraints.DecimalMin;
@@ -31,7 +33,19 @@ import lombok.EqualsAndHashCode;
 @Table(name = "products", indexes = {
     @Index(name = "idx_product_sku", columnList = "sku", unique = true),
     @Index(name = "idx_product_name", columnList = "name"),
-    @Index(name = "idx_product_status", columnList = "status")
+    @Index(name = "idx_product_status", columnList = "status"),
+    @Index(name = "idx_product_unit_price", columnList = "unit_price"),
+    @Index(name = "idx_product_quantity", columnList = "quantity_in_stock"),
+    @Index(name = "idx_product_created_at", columnList = "created_at"),
+    @Index(name = "idx_product_category_key", columnList = "category_key"),
+    @Index(name = "idx_product_supplier_key", columnList = "supplier_key"),
+    @Index(name = "idx_product_reorder_needed", columnList = "reorder_needed"),
+    @Index(name = "idx_product_below_minimum_stock", columnList = "below_minimum_stock"),
+    @Index(name = "idx_product_inventory_value", columnList = "inventory_value"),
+    @Index(name = "idx_product_category_value", columnList = "category_key, inventory_value"),
+    // Covers the per-category metrics query, which then groups by reading the index alone
+    @Index(name = "idx_product_category_metrics",
+        columnList = "category_key, category, quantity_in_stock, unit_price, minimum_stock_level, reorder_needed")
 })
 @EntityListeners(AuditingEntityListener.class)
 @Data
@@ -67,6 +81,12 @@ public class Product extends AuditableEntity {
     @NotNull(message = "Product status is required")
     private ProductStatus status = ProductStatus.AVAILABLE;
 
+    // Status before the last atomic stock adjustment, written by ProductRepository#adjustStock in the
+    // same statement so the adjustment can report it without reading the row; other writes leave it alone
+    @Enumerated(EnumType.STRING)
+    @Column(name = "previous_status")
+    private ProductStatus previousStatus;
+
     @Column(name = "quantity_in_stock", nullable = false)
     @Min(value = 0, message = "Quantity cannot be negative")
     private Integer quantityInStock = 0;
@@ -79,6 +99,13 @@ public class Product extends AuditableEntity {
     @Size(max = 150, message = "Supplier cannot exceed 150 characters")
     private String supplier;
 
+    // Normalized (trimmed, lower-case) copies of category and supplier for indexed lookups
+    @Column(name = "category_key", length = 100)
+    private String categoryKey;
+
+    @Column(name = "supplier_key", length = 150)
+    private String supplierKey;
+
     @Column(name = "weight_kg", precision = 10, scale = 3)
     @DecimalMin(value = "0.001", message = "Weight must be positive")
     private BigDecimal weightKg;
@@ -90,6 +117,32 @@ public class Product extends AuditableEntity {
     @Column(name = "reorder_point")
     @Min(value = 0, message = "Reorder point cannot be negative")
     private Integer reorderPoint = 0;
+
+    // Stock-condition flags derived from quantity and thresholds, persisted so alert queries can use an index
+    @Column(name = "reorder_needed", nullable = false)
+    private boolean reorderNeeded;
+
+    @Column(name = "below_minimum_stock", nullable = false)
+    private boolean belowMinimumStock;
+
+    // Unit price times quantity in stock, persisted so the most valuable products can be read from an index
+    @Column(name = "inventory_value", precision = 30, scale = 2, nullable = false)
+    private BigDecimal inventoryValue = BigDecimal.ZERO;
+    
+    /**
+     * Recompute the stock-condition flags and the inventory value before every insert and update,
+     * so they follow any change to price, quantity, reorder point or minimum stock level.
+     */
+    @PrePersist
+    @PreUpdate
+    void refreshDerivedColumns() {
+        reorderNeeded = needsReorder();
+        belowMinimumStock = quantityInStock != null && minimumStockLevel != null &&
+            quantityInStock < minimumStockLevel;
+        inventoryValue = unitPrice != null && quantityInStock != null
+            ? unitPrice.multiply(BigDecimal.valueOf(quantityInStock))
+            : BigDecimal.ZERO;
+    }
     
     public boolean isLowStock() {
         return quantityInStock != null && minimumStockLevel != null && 
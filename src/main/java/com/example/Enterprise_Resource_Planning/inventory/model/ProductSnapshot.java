@@ -0,0 +1,105 @@
+package com.example.Enterprise_Resource_Planning.inventory.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Immutable copy of the searchable and stock-related state of a product.
+ * Used in product change events and for batched index rebuilds, where
+ * managed entities must not leak out of the persistence context.
+ */
+public record ProductSnapshot(
+        Long id,
+        String sku,
+        String name,
+        String description,
+        String category,
+        String supplier,
+        BigDecimal unitPrice,
+        ProductStatus status,
+        Integer quantityInStock,
+        Integer minimumStockLevel,
+        Integer reorderPoint,
+        LocalDateTime updatedAt) {
+
+    /**
+     * Capture the current state of a product entity.
+     *
+     * @param product the product, may be null
+     * @return the snapshot, or null if the product is null
+     */
+    public static ProductSnapshot of(Product product) {
+        if (product == null) {
+            return null;
+        }
+        return new ProductSnapshot(
+            product.getId(),
+            product.getSku(),
+            product.getName(),
+            product.getDescription(),
+            product.getCategory(),
+            product.getSupplier(),
+            product.getUnitPrice(),
+            product.getStatus(),
+            product.getQuantityInStock(),
+            product.getMinimumStockLevel(),
+            product.getReorderPoint(),
+            product.getUpdatedAt());
+    }
+
+    /**
+     * Copy of this snapshot with another quantity in stock and status.
+     *
+     * @param quantity the quantity in stock of the copy
+     * @param stockStatus the status of the copy
+     * @return the copy
+     */
+    public ProductSnapshot withStock(Integer quantity, ProductStatus stockStatus) {
+        return new ProductSnapshot(id, sku, name, description, category, supplier, unitPrice, stockStatus,
+            quantity, minimumStockLevel, reorderPoint, updatedAt);
+    }
+
+    /**
+     * Unit price times quantity in stock, zero if either is unknown.
+     */
+    public BigDecimal inventoryValue() {
+        return unitPrice != null && quantityInStock != null
+            ? unitPrice.multiply(BigDecimal.valueOf(quantityInStock))
+            : BigDecimal.ZERO;
+    }
+
+    /**
+     * Stock status using the same rules as ProductMapper and the summary projections.
+     *
+     * @return "UNKNOWN", "OUT_OF_STOCK", "CRITICAL", "LOW" or "NORMAL"
+     */
+    public String stockStatus() {
+        if (quantityInStock == null) {
+            return "UNKNOWN";
+        }
+        if (quantityInStock == 0) {
+            return "OUT_OF_STOCK";
+        }
+        if (reorderPoint != null && quantityInStock <= reorderPoint) {
+            return "CRITICAL";
+        }
+        if (minimumStockLevel != null && quantityInStock < minimumStockLevel) {
+            return "LOW";
+        }
+        return "NORMAL";
+    }
+
+    /**
+     * Same rule as the persisted {@code below_minimum_stock} flag.
+     */
+    public boolean belowMinimumStock() {
+        return quantityInStock != null && minimumStockLevel != null && quantityInStock < minimumStockLevel;
+    }
+
+    /**
+     * Same rule as the persisted {@code reorder_needed} flag.
+     */
+    public boolean reorderNeeded() {
+        return quantityInStock != null && reorderPoint != null && quantityInStock <= reorderPoint;
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.Enterprise_Resource_Planning.inventory.repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.example.Enterprise_Resource_Planning.inventory.model.InventoryAggregate;
+import com.example.Enterprise_Resource_Planning.inventory.model.InventoryTotals;
+
+import jakarta.persistence.LockModeType;
+
+/**
+ * Repository for the slots of the running inventory totals.
+ */
+@Repository
+public interface InventoryAggregateRepository extends JpaRepository<InventoryAggregate, Long> {
+
+    /**
+     * Add a delta to the totals of one slot in place. The increments are applied by the database,
+     * so concurrent product writes to the same slot serialize on its row lock instead of losing updates.
+     *
+     * @return the number of updated rows, 0 if the slot does not exist yet
+     */
+    @Modifying
+    @Query("UPDATE InventoryAggregate a SET " +
+            "a.productCount = a.productCount + :productCount, " +
+            "a.totalValue = a.totalValue + :totalValue, " +
+            "a.normalCount = a.normalCount + :normalCount, " +
+            "a.lowCount = a.lowCount + :lowCount, " +
+            "a.criticalCount = a.criticalCount + :criticalCount, " +
+            "a.outOfStockCount = a.outOfStockCount + :outOfStockCount, " +
+            "a.unknownCount = a.unknownCount + :unknownCount, " +
+            "a.belowMinimumStockCount = a.belowMinimumStockCount + :belowMinimumStockCount, " +
+            "a.reorderNeededCount = a.reorderNeededCount + :reorderNeededCount, " +
+            "a.updatedAt = :updatedAt " +
+            "WHERE a.id = :id")
+    int applyDelta(@Param("id") Long id,
+                   @Param("productCount") long productCount,
+                   @Param("totalValue") BigDecimal totalValue,
+                   @Param("normalCount") long normalCount,
+                   @Param("lowCount") long lowCount,
+                   @Param("criticalCount") long criticalCount,
+                   @Param("outOfStockCount") long outOfStockCount,
+                   @Param("unknownCount") long unknownCount,
+                   @Param("belowMinimumStockCount") long belowMinimumStockCount,
+                   @Param("reorderNeededCount") long reorderNeededCount,
+                   @Param("updatedAt") LocalDateTime updatedAt);
+
+    default int applyDelta(Long id, InventoryTotals delta, LocalDateTime updatedAt) {
+        return applyDelta(id, delta.productCount(), delta.totalValue(), delta.normalCount(), delta.lowCount(),
+            delta.criticalCount(), delta.outOfStockCount(), delta.unknownCount(),
+            delta.belowMinimumStockCount(), delta.reorderNeededCount(), updatedAt);
+    }
+
+    /**
+     * Insert an empty slot. Fails with a duplicate key if the slot exists, so callers check first
+     * and treat a duplicate key as the slot having been created concurrently.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO inventory_aggregates (id, product_count, total_value, normal_count, low_count, " +
+            "critical_count, out_of_stock_count, unknown_count, below_minimum_stock_count, reorder_needed_count, " +
+            "updated_at) VALUES (:id, 0, 0, 0, 0, 0, 0, 0, 0, 0, :updatedAt)", nativeQuery = true)
+    void insertEmptySlot(@Param("id") Long id, @Param("updatedAt") LocalDateTime updatedAt);
+
+    /**
+     * Load all slots and lock them in ID order, so product writes wait while the totals are recomputed.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a FROM InventoryAggregate a ORDER BY a.id")
+    List<InventoryAggregate> findAllForUpdate();
+
+    /**
+     * Catalog totals summed over all slots, with the time of the latest write to any of them.
+     * Returns zero totals and no update time if there are no slots yet.
+     */
+    @Query("SELECT new com.example.Enterprise_Resource_Planning.inventory.model.InventoryAggregate(" +
+            "COALESCE(SUM(a.productCount), 0), " +
+            "COALESCE(SUM(a.totalValue), 0), " +
+            "COALESCE(SUM(a.normalCount), 0), " +
+            "COALESCE(SUM(a.lowCount), 0), " +
+            "COALESCE(SUM(a.criticalCount), 0), " +
+            "COALESCE(SUM(a.outOfStockCount), 0), " +
+            "COALESCE(SUM(a.unknownCount), 0), " +
+            "COALESCE(SUM(a.belowMinimumStockCount), 0), " +
+            "COALESCE(SUM(a.reorderNeededCount), 0), " +
+            "MAX(a.updatedAt)) " +
+            "FROM InventoryAggregate a")
+    InventoryAggregate sumSlots();
+
+    /**
+     * Totals of the whole catalog computed from the products table in one pass,
+     * using the same stock status rules as ProductSnapshot.
+     */
+    @Query("SELECT new com.example.Enterprise_Resource_Planning.inventory.model.InventoryTotals(" +
+            "COUNT(p), " +
+            "COALESCE(SUM(p.unitPrice * p.quantityInStock), 0), " +
+            "COALESCE(SUM(CASE WHEN p.quantityInStock > 0 " +
+            "AND (p.reorderPoint IS NULL OR p.quantityInStock > p.reorderPoint) " +
+            "AND (p.minimumStockLevel IS NULL OR p.quantityInStock >= p.minimumStockLevel) THEN 1 ELSE 0 END), 0), " +
+            "COALESCE(SUM(CASE WHEN p.quantityInStock > 0 " +
+            "AND (p.reorderPoint IS NULL OR p.quantityInStock > p.reorderPoint) " +
+            "AND p.quantityInStock < p.minimumStockLevel THEN 1 ELSE 0 END), 0), " +
+            "COALESCE(SUM(CASE WHEN p.quantityInStock > 0 AND p.quantityInStock <= p.reorderPoint THEN 1 ELSE 0 END), 0), " +
+            "COALESCE(SUM(CASE WHEN p.quantityInStock = 0 THEN 1 ELSE 0 END), 0), " +
+            "COALESCE(SUM(CASE WHEN p.quantityInStock IS NULL THEN 1 ELSE 0 END), 0), " +
+            "COALESCE(SUM(CASE WHEN p.quantityInStock < p.minimumStockLevel THEN 1 ELSE 0 END), 0), " +
+            "COALESCE(SUM(CASE WHEN p.quantityInStock <= p.reorderPoint THEN 1 ELSE 0 END), 0)) " +
+            "FROM Product p")
+    InventoryTotals computeCatalogTotals();
+}
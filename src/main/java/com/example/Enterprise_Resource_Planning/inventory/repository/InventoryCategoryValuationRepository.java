@@ -0,0 +1,35 @@
+package com.example.Enterprise_Resource_Planning.inventory.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.example.Enterprise_Resource_Planning.inventory.model.InventoryCategoryValuation;
+
+/**
+ * Repository for the per-category rows of the recorded catalog valuations.
+ */
+@Repository
+public interface InventoryCategoryValuationRepository extends JpaRepository<InventoryCategoryValuation, Long> {
+
+    /**
+     * Category rows of a set of valuations in one query, grouped by valuation.
+     */
+    List<InventoryCategoryValuation> findByValuationIdInOrderByValuationIdAscCategoryAsc(Collection<Long> valuationIds);
+
+    /**
+     * Delete the category rows of the valuations captured before a cutoff.
+     *
+     * @return the number of deleted rows
+     */
+    @Modifying
+    @Query("DELETE FROM InventoryCategoryValuation c WHERE c.valuationId IN " +
+            "(SELECT v.id FROM InventoryValuation v WHERE v.capturedAt < :cutoff)")
+    int deleteForValuationsCapturedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
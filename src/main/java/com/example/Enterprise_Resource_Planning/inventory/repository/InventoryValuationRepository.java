@@ -0,0 +1,41 @@
+package com.example.Enterprise_Resource_Planning.inventory.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.example.Enterprise_Resource_Planning.inventory.model.InventoryValuation;
+
+/**
+ * Repository for the recorded catalog valuations.
+ */
+@Repository
+public interface InventoryValuationRepository extends JpaRepository<InventoryValuation, Long> {
+
+    /**
+     * Valuations captured within a range (inclusive), oldest first.
+     */
+    List<InventoryValuation> findByCapturedAtBetweenOrderByCapturedAtAsc(LocalDateTime from, LocalDateTime to,
+            Pageable pageable);
+
+    /**
+     * The latest valuation captured at or before a point in time.
+     */
+    Optional<InventoryValuation> findFirstByCapturedAtLessThanEqualOrderByCapturedAtDesc(LocalDateTime at);
+
+    /**
+     * Delete the valuations captured before a cutoff. Their category rows must be deleted first.
+     *
+     * @return the number of deleted valuations
+     */
+    @Modifying
+    @Query("DELETE FROM InventoryValuation v WHERE v.capturedAt < :cutoff")
+    int deleteCapturedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -1,24 +1,55 @@
 package com.example.Enterprise_Resource_Planning.inventory.repository;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
-import org.springframework.data.domain.Page;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.example.Enterprise_Resource_Planning.inventory.dto.response.CategoryMetricsDTO;
+import com.example.Enterprise_Resource_Planning.inventory.dto.response.ProductSuggestionDTO;
+import com.example.Enterprise_Resource_Planning.inventory.dto.response.ProductSummaryDTO;
 import com.example.Enterprise_Resource_Planning.inventory.model.Product;
+import com.example.Enterprise_Resource_Planning.inventory.model.ProductSnapshot;
 import com.example.Enterprise_Resource_Planning.inventory.model.ProductStatus;
+
+import jakarta.persistence.QueryHint;
+
 /**
  * Repository interface for Product entities.
  * Provides methods to perform CRUD operations and custom queries.
  */
 @Repository
-public interface ProductRepository extends JpaRepository<Product, Long> {
+public interface ProductRepository extends JpaRepository<Product, Long>, JpaSpecificationExecutor<Product>,
+        ProductRepositoryCustom {
+
+    /**
+     * Select clause projecting the summary columns straight into ProductSummaryDTO.
+     * The reorder flag and stock status are computed in SQL with the same rules as
+     * ProductMapper, so list queries never load description, audit columns or version
+     * and never put entities into the persistence context.
+     */
+    String SUMMARY_SELECT =
+            "SELECT new com.example.Enterprise_Resource_Planning.inventory.dto.response.ProductSummaryDTO(" +
+            "p.id, p.sku, p.name, p.unitPrice, p.status, p.quantityInStock, p.category, " +
+            "p.reorderNeeded, " +
+            "CASE WHEN p.quantityInStock IS NULL THEN 'UNKNOWN' " +
+            "WHEN p.quantityInStock = 0 THEN 'OUT_OF_STOCK' " +
+            "WHEN p.quantityInStock <= p.reorderPoint THEN 'CRITICAL' " +
+            "WHEN p.quantityInStock < p.minimumStockLevel THEN 'LOW' " +
+            "ELSE 'NORMAL' END) " +
+            "FROM Product p";
 
     /**
      * Finds a product by its name.
@@ -44,6 +75,11 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
      */
     Optional<Product> findBySku(String sku);
     
+    /**
+     * Find the products with the given SKUs.
+     */
+    List<Product> findBySkuIn(Collection<String> skus);
+    
     /**
      * Check if a product exists with the given SKU.
      * 
@@ -87,14 +123,14 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
     List<Product> findByStatus(ProductStatus status);
     
     /**
-     * Find products by category (case-insensitive).
+     * Find products by normalized category key (see ProductMapper.toLookupKey).
      */
-    List<Product> findByCategoryIgnoreCase(String category);
+    List<Product> findByCategoryKey(String categoryKey);
     
     /**
-     * Find products by supplier (case-insensitive).
+     * Find products by normalized supplier key (see ProductMapper.toLookupKey).
      */
-    List<Product> findBySupplierIgnoreCase(String supplier);
+    List<Product> findBySupplierKey(String supplierKey);
     
     /**
      * Find products within a price range.
@@ -112,82 +148,239 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
     List<Product> findByWeightKgBetween(BigDecimal minWeight, BigDecimal maxWeight);
     
     /**
-     * Find products that need reordering (quantity <= reorder point).
+     * Find products that need reordering (quantity <= reorder point), using the indexed flag.
      */
-    @Query("SELECT p FROM Product p WHERE p.quantityInStock <= p.reorderPoint")
+    @Query("SELECT p FROM Product p WHERE p.reorderNeeded = true")
     List<Product> findProductsNeedingReorder();
     
     /**
-     * Find products below minimum stock level.
+     * Find products below minimum stock level, using the indexed flag.
      */
-    @Query("SELECT p FROM Product p WHERE p.quantityInStock < p.minimumStockLevel")
+    @Query("SELECT p FROM Product p WHERE p.belowMinimumStock = true")
     List<Product> findProductsBelowMinimumStock();
     
+    /**
+     * Approximate row count of the products table from the database's table statistics.
+     * Much cheaper than COUNT(*) but only as accurate as the last statistics update.
+     *
+     * @return the estimated row count, or null if no statistics are available
+     */
+    @Query(value = "SELECT TABLE_ROWS FROM information_schema.TABLES " +
+            "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'products'", nativeQuery = true)
+    Long estimateRowCount();
+    
+    /**
+     * Latest modification timestamp across all products, used to tell whether a
+     * derived index has seen every product change.
+     *
+     * @return the latest {@code updatedAt}, or null if there are no products
+     */
+    @Query("SELECT MAX(p.updatedAt) FROM Product p")
+    LocalDateTime findLatestUpdatedAt();
+    
     /**
      * Find products with stock quantity less than or equal to specified value.
      */
     List<Product> findByQuantityInStockLessThanEqual(Integer quantity);
     
     /**
-     * Complex search query with multiple optional criteria.
-     */
-    @Query("SELECT p FROM Product p WHERE " +
-            "(:name IS NULL OR LOWER(p.name) LIKE LOWER(CONCAT('%', :name, '%'))) AND " +
-            "(:sku IS NULL OR LOWER(p.sku) LIKE LOWER(CONCAT('%', :sku, '%'))) AND " +
-            "(:description IS NULL OR LOWER(p.description) LIKE LOWER(CONCAT('%', :description, '%'))) AND " +
-            "(:status IS NULL OR p.status = :status) AND " +
-            "(:category IS NULL OR LOWER(p.category) = LOWER(:category)) AND " +
-            "(:supplier IS NULL OR LOWER(p.supplier) = LOWER(:supplier)) AND " +
-            "(:minPrice IS NULL OR p.unitPrice >= :minPrice) AND " +
-            "(:maxPrice IS NULL OR p.unitPrice <= :maxPrice) AND " +
-            "(:minQuantity IS NULL OR p.quantityInStock >= :minQuantity) AND " +
-            "(:maxQuantity IS NULL OR p.quantityInStock <= :maxQuantity) AND " +
-            "(:minWeight IS NULL OR p.weightKg >= :minWeight) AND " +
-            "(:maxWeight IS NULL OR p.weightKg <= :maxWeight)")
-    List<Product> findProductsByCriteria(
-        @Param("name") String name,
-        @Param("sku") String sku,
-        @Param("description") String description,
-        @Param("status") ProductStatus status,
-        @Param("category") String category,
-        @Param("supplier") String supplier,
-        @Param("minPrice") BigDecimal minPrice,
-        @Param("maxPrice") BigDecimal maxPrice,
-        @Param("minQuantity") Integer minQuantity,
-        @Param("maxQuantity") Integer maxQuantity,
-        @Param("minWeight") BigDecimal minWeight,
-        @Param("maxWeight") BigDecimal maxWeight
-    );
-    
-    /**
-     * Paginated version of complex search.
-     */
-    @Query("SELECT p FROM Product p WHERE " +
-            "(:name IS NULL OR LOWER(p.name) LIKE LOWER(CONCAT('%', :name, '%'))) AND " +
-            "(:sku IS NULL OR LOWER(p.sku) LIKE LOWER(CONCAT('%', :sku, '%'))) AND " +
-            "(:description IS NULL OR LOWER(p.description) LIKE LOWER(CONCAT('%', :description, '%'))) AND " +
-            "(:status IS NULL OR p.status = :status) AND " +
-            "(:category IS NULL OR LOWER(p.category) = LOWER(:category)) AND " +
-            "(:supplier IS NULL OR LOWER(p.supplier) = LOWER(:supplier)) AND " +
-            "(:minPrice IS NULL OR p.unitPrice >= :minPrice) AND " +
-            "(:maxPrice IS NULL OR p.unitPrice <= :maxPrice) AND " +
-            "(:minQuantity IS NULL OR p.quantityInStock >= :minQuantity) AND " +
-            "(:maxQuantity IS NULL OR p.quantityInStock <= :maxQuantity) AND " +
-            "(:minWeight IS NULL OR p.weightKg >= :minWeight) AND " +
-            "(:maxWeight IS NULL OR p.weightKg <= :maxWeight)")
-    Page<Product> findProductsByCriteriaPageable(
-        @Param("name") String name,
-        @Param("sku") String sku,
-        @Param("description") String description,
-        @Param("status") ProductStatus status,
-        @Param("category") String category,
-        @Param("supplier") String supplier,
-        @Param("minPrice") BigDecimal minPrice,
-        @Param("maxPrice") BigDecimal maxPrice,
-        @Param("minQuantity") Integer minQuantity,
-        @Param("maxQuantity") Integer maxQuantity,
-        @Param("minWeight") BigDecimal minWeight,
-        @Param("maxWeight") BigDecimal maxWeight,
-        Pageable pageable
-    );
+     * Read product snapshots in ID order, starting after the given ID.
+     * Used to rebuild in-memory indexes in bounded batches without loading managed entities.
+     */
+    @Query("SELECT new com.example.Enterprise_Resource_Planning.inventory.model.ProductSnapshot(" +
+            "p.id, p.sku, p.name, p.description, p.category, p.supplier, p.unitPrice, p.status, " +
+            "p.quantityInStock, p.minimumStockLevel, p.reorderPoint, p.updatedAt) " +
+            "FROM Product p WHERE p.id > :afterId ORDER BY p.id")
+    List<ProductSnapshot> findSnapshotsAfter(@Param("afterId") Long afterId, Pageable pageable);
+    
+    /**
+     * Stream all products in ID order through a forward-only cursor.
+     * Rows are fetched from the server in batches of the JDBC fetch size
+     * (requires {@code useCursorFetch=true} on the MySQL connection URL).
+     * Must be consumed inside a transaction and closed afterwards.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT p FROM Product p ORDER BY p.id")
+    Stream<Product> streamAll();
+    
+    //         ===================================
+    //                SUMMARY PROJECTIONS
+    //         ===================================
+    
+    /**
+     * Summaries of all products.
+     */
+    @Query(SUMMARY_SELECT)
+    List<ProductSummaryDTO> findAllSummaries();
+    
+    /**
+     * Summaries of the products with the given IDs.
+     */
+    @Query(SUMMARY_SELECT + " WHERE p.id IN :ids")
+    List<ProductSummaryDTO> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+    
+    /**
+     * Summaries of products whose name contains a substring (case-insensitive).
+     */
+    @Query(SUMMARY_SELECT + " WHERE LOWER(p.name) LIKE LOWER(CONCAT('%', :name, '%'))")
+    List<ProductSummaryDTO> findSummariesByNameContaining(@Param("name") String name);
+    
+    /**
+     * Summaries of products with the given status.
+     */
+    @Query(SUMMARY_SELECT + " WHERE p.status = :status")
+    List<ProductSummaryDTO> findSummariesByStatus(@Param("status") ProductStatus status);
+    
+    /**
+     * Summaries of products with the given normalized category key.
+     */
+    @Query(SUMMARY_SELECT + " WHERE p.categoryKey = :categoryKey")
+    List<ProductSummaryDTO> findSummariesByCategoryKey(@Param("categoryKey") String categoryKey);
+    
+    /**
+     * Summaries of products with the given normalized supplier key.
+     */
+    @Query(SUMMARY_SELECT + " WHERE p.supplierKey = :supplierKey")
+    List<ProductSummaryDTO> findSummariesBySupplierKey(@Param("supplierKey") String supplierKey);
+    
+    /**
+     * Summaries of products that need reordering (quantity <= reorder point).
+     */
+    @Query(SUMMARY_SELECT + " WHERE p.reorderNeeded = true")
+    List<ProductSummaryDTO> findSummariesNeedingReorder();
+    
+    /**
+     * Summaries of products below minimum stock level.
+     */
+    @Query(SUMMARY_SELECT + " WHERE p.belowMinimumStock = true")
+    List<ProductSummaryDTO> findSummariesBelowMinimumStock();
+    
+    /**
+     * Summaries of the products with the highest inventory value, read in order from
+     * idx_product_inventory_value; the page size is the LIMIT.
+     */
+    @Query(SUMMARY_SELECT + " ORDER BY p.inventoryValue DESC, p.id DESC")
+    List<ProductSummaryDTO> findMostValuable(Pageable pageable);
+    
+    /**
+     * Summaries of the products with the highest inventory value in one category,
+     * read in order from idx_product_category_value.
+     */
+    @Query(SUMMARY_SELECT + " WHERE p.categoryKey = :categoryKey ORDER BY p.inventoryValue DESC, p.id DESC")
+    List<ProductSummaryDTO> findMostValuableByCategoryKey(@Param("categoryKey") String categoryKey, Pageable pageable);
+    
+    /**
+     * Products whose name or SKU starts with the prefix, highest inventory value first.
+     * Used for suggestions while the in-memory suggest index is unavailable.
+     *
+     * @param prefix the prefix, with LIKE wildcards escaped by '!'
+     * @param pageable the number of suggestions to return
+     * @return the matching suggestions
+     */
+    @Query("SELECT new com.example.Enterprise_Resource_Planning.inventory.dto.response.ProductSuggestionDTO(" +
+            "p.id, p.sku, p.name, p.unitPrice * p.quantityInStock) FROM Product p " +
+            "WHERE p.name LIKE CONCAT(:prefix, '%') ESCAPE '!' OR p.sku LIKE CONCAT(:prefix, '%') ESCAPE '!' " +
+            "ORDER BY p.unitPrice * p.quantityInStock DESC, p.id")
+    List<ProductSuggestionDTO> findSuggestions(@Param("prefix") String prefix, Pageable pageable);
+    
+    /**
+     * Fill in missing category lookup keys, e.g. for rows written before the column existed.
+     *
+     * @return the number of updated rows
+     */
+    @Modifying
+    @Query("UPDATE Product p SET p.categoryKey = NULLIF(LOWER(TRIM(p.category)), '') " +
+            "WHERE p.categoryKey IS NULL AND p.category IS NOT NULL")
+    int backfillCategoryKeys();
+    
+    /**
+     * Fill in missing supplier lookup keys, e.g. for rows written before the column existed.
+     *
+     * @return the number of updated rows
+     */
+    @Modifying
+    @Query("UPDATE Product p SET p.supplierKey = NULLIF(LOWER(TRIM(p.supplier)), '') " +
+            "WHERE p.supplierKey IS NULL AND p.supplier IS NOT NULL")
+    int backfillSupplierKeys();
+    
+    /**
+     * Recompute stock-condition flags that disagree with the row's quantity and thresholds,
+     * e.g. for rows written before the columns existed or by bulk updates.
+     *
+     * @return the number of updated rows
+     */
+    @Modifying
+    @Query("UPDATE Product p SET " +
+            "p.reorderNeeded = CASE WHEN p.quantityInStock <= p.reorderPoint THEN true ELSE false END, " +
+            "p.belowMinimumStock = CASE WHEN p.quantityInStock < p.minimumStockLevel THEN true ELSE false END " +
+            "WHERE p.reorderNeeded <> CASE WHEN p.quantityInStock <= p.reorderPoint THEN true ELSE false END " +
+            "OR p.belowMinimumStock <> CASE WHEN p.quantityInStock < p.minimumStockLevel THEN true ELSE false END")
+    int refreshStockConditions();
+    
+    /**
+     * Recompute stored inventory values that disagree with the row's price and quantity,
+     * e.g. for rows written before the column existed or by bulk updates.
+     *
+     * @return the number of updated rows
+     */
+    @Modifying
+    @Query("UPDATE Product p SET p.inventoryValue = COALESCE(p.unitPrice * p.quantityInStock, 0) " +
+            "WHERE p.inventoryValue <> COALESCE(p.unitPrice * p.quantityInStock, 0)")
+    int refreshInventoryValues();
+    
+    /**
+     * Add a signed delta to a product's stock in one conditional statement, without reading
+     * the row first. The status and the derived columns follow the rules of
+     * ProductService#updateProductStock and Product#refreshDerivedColumns, and the version is
+     * incremented so that concurrent entity updates fail their optimistic lock check.
+     * The status before the adjustment is kept in previousStatus, assigned first, and the quantity
+     * is assigned last: MySQL applies assignments left to right, so every other expression still
+     * sees the row before the adjustment, as on standard SQL databases.
+     *
+     * @param id the product ID
+     * @param delta the quantity to add, negative to remove stock
+     * @param maxQuantity the highest quantity in stock the adjustment may result in
+     * @param updatedAt the new modification timestamp
+     * @return 1 if the stock was adjusted, 0 if the product does not exist or the
+     *         adjusted quantity would fall outside 0 and {@code maxQuantity}
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Product p SET " +
+            "p.previousStatus = p.status, " +
+            "p.status = CASE WHEN COALESCE(p.quantityInStock, 0) + :delta = 0 " +
+            "THEN com.example.Enterprise_Resource_Planning.inventory.model.ProductStatus.OUT_OF_STOCK " +
+            "WHEN p.status = com.example.Enterprise_Resource_Planning.inventory.model.ProductStatus.OUT_OF_STOCK " +
+            "THEN com.example.Enterprise_Resource_Planning.inventory.model.ProductStatus.AVAILABLE " +
+            "ELSE p.status END, " +
+            "p.reorderNeeded = CASE WHEN COALESCE(p.quantityInStock, 0) + :delta <= p.reorderPoint THEN true ELSE false END, " +
+            "p.belowMinimumStock = CASE WHEN COALESCE(p.quantityInStock, 0) + :delta < p.minimumStockLevel THEN true ELSE false END, " +
+            "p.inventoryValue = COALESCE(p.unitPrice * (COALESCE(p.quantityInStock, 0) + :delta), 0), " +
+            "p.version = COALESCE(p.version, 0) + 1, " +
+            "p.updatedAt = :updatedAt, " +
+            "p.quantityInStock = COALESCE(p.quantityInStock, 0) + :delta " +
+            "WHERE p.id = :id AND COALESCE(p.quantityInStock, 0) + :delta BETWEEN 0 AND :maxQuantity")
+    int adjustStock(@Param("id") Long id, @Param("delta") int delta, @Param("maxQuantity") int maxQuantity,
+                    @Param("updatedAt") LocalDateTime updatedAt);
+    
+    //         ===================================
+    //                    AGGREGATES
+    //         ===================================
+    
+    /**
+     * Product count, inventory value and low-stock count per category, in one grouped scan
+     * of idx_product_category_metrics. Low stock means stock status LOW or OUT_OF_STOCK,
+     * with the same rules as SUMMARY_SELECT.
+     * Categories are grouped by lookup key, so spellings that differ only in case or surrounding
+     * whitespace share a row regardless of the column collation; the row is labelled with the
+     * lowest trimmed spelling, and products without a category share a row with a null category.
+     */
+    @Query("SELECT new com.example.Enterprise_Resource_Planning.inventory.dto.response.CategoryMetricsDTO(" +
+            "CASE WHEN p.categoryKey IS NULL THEN NULL ELSE MIN(TRIM(p.category)) END, " +
+            "COUNT(p), COALESCE(SUM(p.unitPrice * p.quantityInStock), 0), " +
+            "SUM(CASE WHEN p.quantityInStock = 0 " +
+            "OR (p.reorderNeeded = false AND p.quantityInStock < p.minimumStockLevel) THEN 1 ELSE 0 END)) " +
+            "FROM Product p GROUP BY p.categoryKey ORDER BY p.categoryKey")
+    List<CategoryMetricsDTO> findCategoryMetrics();
+    
+    // Multi-criteria search is built with ProductSpecification (see JpaSpecificationExecutor)
 }
@@ -0,0 +1,77 @@
+package com.example.Enterprise_Resource_Planning.inventory.repository;
+
+import java.util.List;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.example.Enterprise_Resource_Planning.inventory.dto.response.ProductFacetsDTO;
+import com.example.Enterprise_Resource_Planning.inventory.dto.response.ProductSummaryDTO;
+import com.example.Enterprise_Resource_Planning.inventory.model.Product;
+
+/**
+ * Custom query fragment for Product queries that cannot be expressed
+ * as derived or annotated repository methods.
+ */
+public interface ProductRepositoryCustom {
+
+    /**
+     * Returns one page of product summaries matching the specification, projected
+     * directly from the summary columns. No count query is issued.
+     *
+     * @param specification the search filters, may be null
+     * @param pageable the page, size and sort to apply
+     * @return the summaries of the requested page
+     */
+    List<ProductSummaryDTO> findSummaries(Specification<Product> specification, Pageable pageable);
+
+    /**
+     * Returns a page of product summaries matching the specification, projected
+     * directly from the summary columns, with the total count.
+     *
+     * @param specification the search filters, may be null
+     * @param pageable the page, size and sort to apply
+     * @return the page of summaries
+     */
+    Page<ProductSummaryDTO> findSummaryPage(Specification<Product> specification, Pageable pageable);
+
+    /**
+     * Returns a slice of product summaries matching the specification. Fetches one row
+     * more than the page size to learn whether a next page exists; no count query is issued.
+     *
+     * @param specification the search filters, may be null
+     * @param pageable the page, size and sort to apply
+     * @return the slice of summaries
+     */
+    Slice<ProductSummaryDTO> findSummarySlice(Specification<Product> specification, Pageable pageable);
+
+    /**
+     * Computes the category, supplier and status histograms of the products matching
+     * the specification, with one narrow grouped query per facet over the filtered set.
+     * Categories and suppliers are grouped on their lookup keys, like the search filters.
+     *
+     * @param specification the search filters, may be null
+     * @return the facet counts
+     */
+    ProductFacetsDTO findFacets(Specification<Product> specification);
+
+    /**
+     * Keyset (seek) search: returns the products matching the specification that sort
+     * strictly after the given position, ordered by the sort field and then by ID.
+     * No OFFSET and no COUNT query are issued, so the cost of a page does not grow
+     * with its depth.
+     *
+     * @param specification the search filters, may be null
+     * @param sortField the entity field to order by, or "id" to order by ID only
+     * @param direction the sort direction applied to both the sort field and the ID
+     * @param lastSortValue the sort field value of the last row of the previous page, or null for the first page
+     * @param lastId the ID of the last row of the previous page, or null for the first page
+     * @param limit the maximum number of rows to return
+     * @return the next rows after the given position
+     */
+    List<Product> findProductsAfter(Specification<Product> specification, String sortField, Sort.Direction direction,
+            Object lastSortValue, Long lastId, int limit);
+}
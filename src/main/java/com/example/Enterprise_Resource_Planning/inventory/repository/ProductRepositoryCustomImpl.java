@@ -0,0 +1,248 @@
+package com.example.Enterprise_Resource_Planning.inventory.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import com.example.Enterprise_Resource_Planning.inventory.dto.response.ProductFacetsDTO;
+import com.example.Enterprise_Resource_Planning.inventory.dto.response.ProductSummaryDTO;
+import com.example.Enterprise_Resource_Planning.inventory.model.Product;
+import com.example.Enterprise_Resource_Planning.inventory.model.ProductStatus;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CompoundSelection;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+/**
+ * Implementation of the custom Product query fragment.
+ */
+public class ProductRepositoryCustomImpl implements ProductRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<ProductSummaryDTO> findSummaries(Specification<Product> specification, Pageable pageable) {
+        return querySummaries(specification, pageable, pageable.isPaged() ? pageable.getPageSize() : -1);
+    }
+
+    @Override
+    public Page<ProductSummaryDTO> findSummaryPage(Specification<Product> specification, Pageable pageable) {
+        List<ProductSummaryDTO> content = findSummaries(specification, pageable);
+        // The count query is skipped when the page itself reveals the total
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(specification));
+    }
+
+    @Override
+    public Slice<ProductSummaryDTO> findSummarySlice(Specification<Product> specification, Pageable pageable) {
+        if (pageable.isUnpaged()) {
+            return new SliceImpl<>(findSummaries(specification, pageable), pageable, false);
+        }
+        List<ProductSummaryDTO> content = querySummaries(specification, pageable, pageable.getPageSize() + 1);
+        boolean hasNext = content.size() > pageable.getPageSize();
+        if (hasNext) {
+            content = content.subList(0, pageable.getPageSize());
+        }
+        return new SliceImpl<>(content, pageable, hasNext);
+    }
+
+    /**
+     * Summary query for the page of the given pageable, returning at most maxResults rows
+     * (all rows if maxResults is negative).
+     */
+    private List<ProductSummaryDTO> querySummaries(Specification<Product> specification, Pageable pageable,
+            int maxResults) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<ProductSummaryDTO> query = cb.createQuery(ProductSummaryDTO.class);
+        Root<Product> root = query.from(Product.class);
+
+        query.select(summarySelection(root, cb));
+        Predicate filter = toPredicate(specification, root, query, cb);
+        if (filter != null) {
+            query.where(filter);
+        }
+        if (pageable.getSort().isSorted()) {
+            query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+        }
+
+        TypedQuery<ProductSummaryDTO> typedQuery = entityManager.createQuery(query);
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult((int) pageable.getOffset());
+        }
+        if (maxResults >= 0) {
+            typedQuery.setMaxResults(maxResults);
+        }
+        return typedQuery.getResultList();
+    }
+
+    @Override
+    public ProductFacetsDTO findFacets(Specification<Product> specification) {
+        Map<String, Long> statuses = new TreeMap<>();
+        long total = 0;
+        for (Tuple row : groupCounts(specification, "status", null)) {
+            long count = row.get(1, Long.class);
+            statuses.put(row.get(0, ProductStatus.class).name(), count);
+            total += count;
+        }
+
+        return ProductFacetsDTO.builder()
+            .categories(keyedFacet(specification, "categoryKey", "category"))
+            .suppliers(keyedFacet(specification, "supplierKey", "supplier"))
+            .statuses(statuses)
+            .total(total)
+            .build();
+    }
+
+    /**
+     * Histogram of a text attribute grouped on its normalized lookup key, the column the
+     * search filters match on, so spellings that differ in case or surrounding whitespace
+     * form one bucket, labelled with the lowest trimmed spelling as in findCategoryMetrics.
+     */
+    private Map<String, Long> keyedFacet(Specification<Product> specification, String keyAttribute,
+            String labelAttribute) {
+        Map<String, Long> histogram = new TreeMap<>();
+        for (Tuple row : groupCounts(specification, keyAttribute, labelAttribute)) {
+            String label = row.get(0) != null ? row.get(2, String.class) : ProductFacetsDTO.UNSPECIFIED;
+            histogram.merge(label, row.get(1, Long.class), Long::sum);
+        }
+        return histogram;
+    }
+
+    /**
+     * One narrow grouped count of the filtered products per value of the group attribute:
+     * rows of (value, count), plus the lowest trimmed label when a label attribute is given.
+     */
+    private List<Tuple> groupCounts(Specification<Product> specification, String groupAttribute,
+            String labelAttribute) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Product> root = query.from(Product.class);
+        Path<Object> group = root.get(groupAttribute);
+
+        if (labelAttribute != null) {
+            query.multiselect(group, cb.count(root), cb.least(cb.trim(root.<String>get(labelAttribute))));
+        } else {
+            query.multiselect(group, cb.count(root));
+        }
+        query.groupBy(group);
+        Predicate filter = toPredicate(specification, root, query, cb);
+        if (filter != null) {
+            query.where(filter);
+        }
+        return entityManager.createQuery(query).getResultList();
+    }
+
+    @Override
+    public List<Product> findProductsAfter(Specification<Product> specification, String sortField,
+            Sort.Direction direction, Object lastSortValue, Long lastId, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Product> query = cb.createQuery(Product.class);
+        Root<Product> root = query.from(Product.class);
+        boolean sortById = "id".equals(sortField);
+
+        List<Predicate> predicates = new ArrayList<>();
+        Predicate filter = toPredicate(specification, root, query, cb);
+        if (filter != null) {
+            predicates.add(filter);
+        }
+        // Seek past the last row of the previous page; the ID breaks ties between equal sort keys
+        if (lastId != null) {
+            predicates.add(sortById
+                ? after(cb, root.get("id"), lastId, direction)
+                : cb.or(
+                    after(cb, root.get(sortField), lastSortValue, direction),
+                    cb.and(cb.equal(root.get(sortField), lastSortValue), after(cb, root.get("id"), lastId, direction))));
+        }
+
+        List<Order> orders = new ArrayList<>();
+        if (!sortById) {
+            orders.add(direction.isDescending() ? cb.desc(root.get(sortField)) : cb.asc(root.get(sortField)));
+        }
+        orders.add(direction.isDescending() ? cb.desc(root.get("id")) : cb.asc(root.get("id")));
+
+        query.select(root)
+            .where(predicates.toArray(new Predicate[0]))
+            .orderBy(orders);
+
+        return entityManager.createQuery(query)
+            .setMaxResults(limit)
+            .getResultList();
+    }
+
+    /**
+     * Projection of the summary columns, with the persisted reorder flag and the
+     * stock status computed in SQL using the same rules as ProductMapper.
+     */
+    private CompoundSelection<ProductSummaryDTO> summarySelection(Root<Product> root, CriteriaBuilder cb) {
+        Expression<Integer> quantity = root.get("quantityInStock");
+        Expression<Integer> reorderPoint = root.get("reorderPoint");
+        Expression<Integer> minimumStockLevel = root.get("minimumStockLevel");
+
+        Expression<String> stockStatus = cb.<String>selectCase()
+            .when(cb.isNull(quantity), "UNKNOWN")
+            .when(cb.equal(quantity, 0), "OUT_OF_STOCK")
+            .when(cb.le(quantity, reorderPoint), "CRITICAL")
+            .when(cb.lt(quantity, minimumStockLevel), "LOW")
+            .otherwise("NORMAL");
+
+        return cb.construct(ProductSummaryDTO.class,
+            root.get("id"),
+            root.get("sku"),
+            root.get("name"),
+            root.get("unitPrice"),
+            root.get("status"),
+            quantity,
+            root.get("category"),
+            root.get("reorderNeeded"),
+            stockStatus);
+    }
+
+    private long count(Specification<Product> specification) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Product> root = query.from(Product.class);
+
+        query.select(cb.count(root));
+        Predicate filter = toPredicate(specification, root, query, cb);
+        if (filter != null) {
+            query.where(filter);
+        }
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    /**
+     * Strict "comes after" comparison in the given sort direction.
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private Predicate after(CriteriaBuilder cb, Path<?> path, Object value, Sort.Direction direction) {
+        Path<Comparable> comparablePath = (Path<Comparable>) path;
+        Comparable comparableValue = (Comparable) value;
+        return direction.isDescending()
+            ? cb.lessThan(comparablePath, comparableValue)
+            : cb.greaterThan(comparablePath, comparableValue);
+    }
+
+    private Predicate toPredicate(Specification<Product> specification, Root<Product> root,
+            CriteriaQuery<?> query, CriteriaBuilder cb) {
+        return specification != null ? specification.toPredicate(root, query, cb) : null;
+    }
+}
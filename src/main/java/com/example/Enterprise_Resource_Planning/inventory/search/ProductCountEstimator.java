@@ -0,0 +1,65 @@
+package com.example.Enterprise_Resource_Planning.inventory.search;
+
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+
+import com.example.Enterprise_Resource_Planning.inventory.config.InventoryProperties;
+import com.example.Enterprise_Resource_Planning.inventory.dto.request.ProductSearchCriteria;
+import com.example.Enterprise_Resource_Planning.inventory.model.Product;
+import com.example.Enterprise_Resource_Planning.inventory.repository.ProductRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Cheap total-count estimates for count-free (slice) product searches.
+ *
+ * Unfiltered searches read the row estimate from the database's table statistics.
+ * Filtered searches run an exact count once and reuse it for
+ * {@code erp.inventory.search.count-cache-ttl}, keyed by the filters only, so paging
+ * through one result set costs a single count. The counts are kept in a cache bounded by
+ * {@code erp.inventory.search.count-cache-max-entries} and keyed by the same normalized
+ * filters as ProductSearchCache, so criteria that differ only in case, blanks or decimal
+ * scale share one count. Estimates may lag behind recent writes.
+ */
+@Component
+public class ProductCountEstimator {
+
+    private final ProductRepository productRepository;
+    private final Cache<ProductSearchCriteria, Long> counts;
+
+    public ProductCountEstimator(ProductRepository productRepository, InventoryProperties properties) {
+        this.productRepository = productRepository;
+        this.counts = Caffeine.newBuilder()
+            .maximumSize(properties.getSearch().getCountCacheMaxEntries())
+            .expireAfterWrite(properties.getSearch().getCountCacheTtl())
+            .build();
+    }
+
+    /**
+     * Estimate the number of products matching the criteria.
+     *
+     * @param criteria the search criteria; only its filters are considered
+     * @param specification the specification built from the same criteria
+     * @return the estimated number of matching products
+     */
+    public long estimate(ProductSearchCriteria criteria, Specification<Product> specification) {
+        // The specification of an unfiltered search is never null, so go by the criteria
+        if (!criteria.hasSearchCriteria()) {
+            Long rows = productRepository.estimateRowCount();
+            if (rows != null && rows >= 0) {
+                return rows;
+            }
+        }
+
+        ProductSearchCriteria key = ProductSearchCache.normalize(criteria);
+        Long cached = counts.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        // Counted outside the cache, so a slow count does not block lookups of other filters
+        long count = productRepository.count(specification);
+        counts.put(key, count);
+        return count;
+    }
+}
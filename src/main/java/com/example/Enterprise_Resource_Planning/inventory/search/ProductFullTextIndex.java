@@ -0,0 +1,438 @@
+package com.example.Enterprise_Resource_Planning.inventory.search;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherFactory;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.similarities.BM25Similarity;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.example.Enterprise_Resource_Planning.inventory.config.InventoryProperties;
+import com.example.Enterprise_Resource_Planning.inventory.event.ProductChangeCommittedEvent;
+import com.example.Enterprise_Resource_Planning.inventory.event.ProductChangedEvent;
+import com.example.Enterprise_Resource_Planning.inventory.exception.SearchUnavailableException;
+import com.example.Enterprise_Resource_Planning.inventory.model.ProductSnapshot;
+import com.example.Enterprise_Resource_Planning.inventory.repository.ProductRepository;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Embedded full-text index over product name, description, category, supplier and SKU,
+ * stored on disk under {@code erp.file-storage.base-path}/search/products.
+ *
+ * Backed by Lucene: documents are tokenized with the standard analyzer and ranked with BM25.
+ * Committed product changes are written as incremental segment updates and become
+ * searchable on the next near-real-time refresh; the index is committed to disk periodically
+ * and on shutdown, together with the latest product modification time it contains. If the
+ * indexed document count disagrees with the products table on startup, or a product was
+ * modified after that time (e.g. changes lost in a crash before the next commit), the index
+ * is rebuilt from the database in ID-ordered batches.
+ */
+@Component
+@Slf4j
+public class ProductFullTextIndex {
+
+    /**
+     * A ranked search hit.
+     *
+     * @param productId the matching product ID
+     * @param score the BM25 relevance score
+     */
+    public record Hit(Long productId, float score) {
+    }
+
+    private static final String ID = "id";
+    private static final String SKU = "sku";
+    private static final String NAME = "name";
+    private static final String DESCRIPTION = "description";
+    private static final String CATEGORY = "category";
+    private static final String SUPPLIER = "supplier";
+
+    // Commit user data key holding the latest product modification time in the index
+    private static final String INDEXED_THROUGH = "products.updated-through";
+
+    // Relative weight of a term match in each field
+    private static final float NAME_BOOST = 3.0f;
+    private static final float CATEGORY_BOOST = 1.5f;
+    private static final float SUPPLIER_BOOST = 1.5f;
+    private static final float DESCRIPTION_BOOST = 1.0f;
+    private static final float SKU_BOOST = 5.0f;
+
+    private final ProductRepository productRepository;
+    private final InventoryProperties inventoryProperties;
+    private final Path indexPath;
+    private final Analyzer analyzer = new StandardAnalyzer();
+
+    private Directory directory;
+    private IndexWriter writer;
+    private SearcherManager searcherManager;
+
+    // Serializes index writes with the start and end of a rebuild
+    private final Lock lock = new ReentrantLock();
+    // Changes committed while a rebuild is reading the table; replayed once it finishes
+    private final List<ProductChangedEvent> pendingChanges = new ArrayList<>();
+    private boolean rebuilding;
+    // Latest product modification time written to the index, null if none
+    private LocalDateTime indexedThrough;
+    // Set when a change failed to apply; the mark is then withheld until the next rebuild
+    private boolean missedChanges;
+
+    public ProductFullTextIndex(ProductRepository productRepository, InventoryProperties inventoryProperties,
+            @Value("${erp.file-storage.base-path}") String fileStorageBasePath) {
+        this.productRepository = productRepository;
+        this.inventoryProperties = inventoryProperties;
+        this.indexPath = Path.of(fileStorageBasePath, "search", "products");
+    }
+
+    @PostConstruct
+    void open() throws IOException {
+        if (!isEnabled()) {
+            return;
+        }
+        Files.createDirectories(indexPath);
+        directory = FSDirectory.open(indexPath);
+
+        IndexWriterConfig config = new IndexWriterConfig(analyzer)
+            .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND)
+            .setSimilarity(new BM25Similarity());
+        writer = new IndexWriter(directory, config);
+        indexedThrough = readIndexedThrough();
+        searcherManager = new SearcherManager(writer, new SearcherFactory() {
+            @Override
+            public IndexSearcher newSearcher(IndexReader reader, IndexReader previousReader) {
+                IndexSearcher searcher = new IndexSearcher(reader);
+                searcher.setSimilarity(new BM25Similarity());
+                return searcher;
+            }
+        });
+    }
+
+    @PreDestroy
+    void close() throws IOException {
+        if (writer == null) {
+            return;
+        }
+        searcherManager.close();
+        commitWithHighWaterMark();
+        writer.close();
+        directory.close();
+    }
+
+    /**
+     * Rebuild the index on startup when it does not match the products table.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIfStale() {
+        if (!isEnabled()) {
+            log.info("Product full-text index is disabled");
+            return;
+        }
+        long indexed = writer.getDocStats().numDocs;
+        long products = productRepository.count();
+        if (indexed != products) {
+            log.info("Product full-text index has {} documents for {} products, rebuilding", indexed, products);
+            rebuild();
+            return;
+        }
+        LocalDateTime latestUpdate = productRepository.findLatestUpdatedAt();
+        if (latestUpdate != null && (indexedThrough == null || latestUpdate.isAfter(indexedThrough))) {
+            log.info("Product full-text index is current through {} but products changed at {}, rebuilding",
+                indexedThrough, latestUpdate);
+            rebuild();
+        }
+    }
+
+    /**
+     * Replace the index contents with the current products table, read in bounded batches.
+     * Documents are upserted by ID, and changes committed while the batches are read are
+     * replayed at the end, so a concurrent change is neither duplicated nor overwritten
+     * by an older batch read.
+     */
+    public void rebuild() {
+        try {
+            lock.lock();
+            try {
+                rebuilding = true;
+                indexedThrough = null;
+                missedChanges = false;
+                writer.deleteAll();
+            } finally {
+                lock.unlock();
+            }
+
+            long indexed;
+            try {
+                indexed = indexAllProducts();
+            } finally {
+                lock.lock();
+                try {
+                    // Re-apply changes that may have raced with the batch reads
+                    for (ProductChangedEvent event : pendingChanges) {
+                        apply(event);
+                    }
+                } finally {
+                    pendingChanges.clear();
+                    rebuilding = false;
+                    lock.unlock();
+                }
+            }
+
+            commitWithHighWaterMark();
+            searcherManager.maybeRefresh();
+            log.info("Product full-text index rebuilt with {} products", indexed);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to rebuild product full-text index", e);
+        }
+    }
+
+    private long indexAllProducts() throws IOException {
+        int batchSize = inventoryProperties.getSearch().getRebuildBatchSize();
+        long lastId = 0;
+        long indexed = 0;
+        List<ProductSnapshot> batch;
+        do {
+            batch = productRepository.findSnapshotsAfter(lastId, PageRequest.of(0, batchSize));
+            lock.lock();
+            try {
+                for (ProductSnapshot product : batch) {
+                    writer.updateDocument(idTerm(product.id()), toDocument(product));
+                    advanceIndexedThrough(product);
+                }
+            } finally {
+                lock.unlock();
+            }
+            if (!batch.isEmpty()) {
+                lastId = batch.get(batch.size() - 1).id();
+                indexed += batch.size();
+            }
+        } while (batch.size() == batchSize);
+        return indexed;
+    }
+
+    /**
+     * Apply a committed product change as an incremental index update.
+     */
+    @EventListener
+    public void onProductChanged(ProductChangeCommittedEvent committed) {
+        ProductChangedEvent event = committed.change();
+        if (!isEnabled()) {
+            return;
+        }
+        lock.lock();
+        try {
+            if (rebuilding) {
+                pendingChanges.add(event);
+            }
+            apply(event);
+            searcherManager.maybeRefresh();
+        } catch (IOException e) {
+            // The index is derived data; log and leave it to be rebuilt on the next startup
+            log.error("Failed to index product change for product {}", event.productId(), e);
+            missedChanges = true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Periodically persist pending index changes to disk.
+     */
+    @Scheduled(fixedDelayString = "${erp.inventory.search.full-text-commit-interval:PT30S}")
+    public void commit() {
+        if (writer == null || !writer.hasUncommittedChanges()) {
+            return;
+        }
+        try {
+            commitWithHighWaterMark();
+        } catch (IOException e) {
+            log.error("Failed to commit product full-text index", e);
+        }
+    }
+
+    /**
+     * Search products by relevance.
+     *
+     * @param text free-text query
+     * @param limit maximum number of hits
+     * @return hits ordered by descending BM25 score
+     * @throws SearchUnavailableException if full-text search is disabled
+     */
+    public List<Hit> search(String text, int limit) {
+        if (!isEnabled()) {
+            throw new SearchUnavailableException("Product full-text search is disabled");
+        }
+        Query query = buildQuery(text);
+        if (query == null) {
+            return List.of();
+        }
+
+        IndexSearcher searcher = null;
+        try {
+            searcher = searcherManager.acquire();
+            TopDocs topDocs = searcher.search(query, limit);
+            List<Hit> hits = new ArrayList<>(topDocs.scoreDocs.length);
+            for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
+                Document document = searcher.storedFields().document(scoreDoc.doc, Set.of(ID));
+                hits.add(new Hit(Long.valueOf(document.get(ID)), scoreDoc.score));
+            }
+            return hits;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Product full-text search failed", e);
+        } finally {
+            if (searcher != null) {
+                try {
+                    searcherManager.release(searcher);
+                } catch (IOException e) {
+                    log.warn("Failed to release product index searcher", e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Every analyzed term is an optional clause over all text fields, so documents
+     * matching more terms, in more heavily weighted fields, rank higher.
+     */
+    private Query buildQuery(String text) {
+        Set<String> terms = analyze(text);
+        if (terms.isEmpty()) {
+            return null;
+        }
+
+        BooleanQuery.Builder query = new BooleanQuery.Builder();
+        for (String term : terms) {
+            query.add(new BoostQuery(new TermQuery(new Term(NAME, term)), NAME_BOOST), BooleanClause.Occur.SHOULD);
+            query.add(new BoostQuery(new TermQuery(new Term(CATEGORY, term)), CATEGORY_BOOST), BooleanClause.Occur.SHOULD);
+            query.add(new BoostQuery(new TermQuery(new Term(SUPPLIER, term)), SUPPLIER_BOOST), BooleanClause.Occur.SHOULD);
+            query.add(new BoostQuery(new TermQuery(new Term(DESCRIPTION, term)), DESCRIPTION_BOOST), BooleanClause.Occur.SHOULD);
+        }
+        // An exact SKU in the query wins outright
+        query.add(new BoostQuery(new TermQuery(new Term(SKU, text.trim().toUpperCase(Locale.ROOT))), SKU_BOOST),
+            BooleanClause.Occur.SHOULD);
+        return query.build();
+    }
+
+    private Set<String> analyze(String text) {
+        Set<String> terms = new LinkedHashSet<>();
+        try (TokenStream stream = analyzer.tokenStream(NAME, text)) {
+            CharTermAttribute term = stream.addAttribute(CharTermAttribute.class);
+            stream.reset();
+            while (stream.incrementToken()) {
+                terms.add(term.toString());
+            }
+            stream.end();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to analyze search text", e);
+        }
+        return terms;
+    }
+
+    private void apply(ProductChangedEvent event) throws IOException {
+        if (event.current() == null) {
+            writer.deleteDocuments(idTerm(event.productId()));
+        } else {
+            writer.updateDocument(idTerm(event.productId()), toDocument(event.current()));
+            advanceIndexedThrough(event.current());
+        }
+    }
+
+    private void advanceIndexedThrough(ProductSnapshot product) {
+        if (product.updatedAt() != null && (indexedThrough == null || product.updatedAt().isAfter(indexedThrough))) {
+            indexedThrough = product.updatedAt();
+        }
+    }
+
+    /**
+     * Commit with the high-water mark read before the commit starts, so it never claims
+     * a change the commit does not contain. Deletions are covered by the document count.
+     */
+    private void commitWithHighWaterMark() throws IOException {
+        String mark;
+        lock.lock();
+        try {
+            mark = missedChanges || indexedThrough == null ? "" : indexedThrough.toString();
+        } finally {
+            lock.unlock();
+        }
+        writer.setLiveCommitData(Map.of(INDEXED_THROUGH, mark).entrySet());
+        writer.commit();
+    }
+
+    private LocalDateTime readIndexedThrough() {
+        Iterable<Map.Entry<String, String>> commitData = writer.getLiveCommitData();
+        if (commitData != null) {
+            for (Map.Entry<String, String> entry : commitData) {
+                if (INDEXED_THROUGH.equals(entry.getKey()) && !entry.getValue().isEmpty()) {
+                    return LocalDateTime.parse(entry.getValue());
+                }
+            }
+        }
+        return null;
+    }
+
+    private static Term idTerm(Long productId) {
+        return new Term(ID, String.valueOf(productId));
+    }
+
+    private Document toDocument(ProductSnapshot product) {
+        Document document = new Document();
+        document.add(new StringField(ID, String.valueOf(product.id()), Field.Store.YES));
+        document.add(new StringField(SKU, product.sku(), Field.Store.NO));
+        document.add(new TextField(NAME, product.name(), Field.Store.NO));
+        if (product.description() != null) {
+            document.add(new TextField(DESCRIPTION, product.description(), Field.Store.NO));
+        }
+        if (product.category() != null) {
+            document.add(new TextField(CATEGORY, product.category(), Field.Store.NO));
+        }
+        if (product.supplier() != null) {
+            document.add(new TextField(SUPPLIER, product.supplier(), Field.Store.NO));
+        }
+        return document;
+    }
+
+    private boolean isEnabled() {
+        return inventoryProperties.getSearch().isFullTextEnabled();
+    }
+}
@@ -0,0 +1,133 @@
+package com.example.Enterprise_Resource_Planning.inventory.search;
+
+import java.math.BigDecimal;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import com.example.Enterprise_Resource_Planning.inventory.config.InventoryProperties;
+import com.example.Enterprise_Resource_Planning.inventory.dto.request.ProductSearchCriteria;
+import com.example.Enterprise_Resource_Planning.inventory.event.ProductChangeCommittedEvent;
+import com.example.Enterprise_Resource_Planning.inventory.event.ProductChangedEvent;
+import com.example.Enterprise_Resource_Planning.inventory.mapper.ProductMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Bounded cache of product search results, keyed by normalized search criteria.
+ *
+ * Entries are evicted by size and TTL ({@code erp.inventory.search.result-cache-*}) and the
+ * whole cache is invalidated after every committed {@link ProductChangedEvent}, i.e. whenever
+ * ProductService creates, updates or deletes a product or changes its stock. A result computed
+ * concurrently with such a write is not cached. Hit, miss, eviction and size metrics are
+ * published under {@code cache.*} with {@code cache=productSearch}.
+ */
+@Component
+public class ProductSearchCache {
+
+    static final String CACHE_NAME = "productSearch";
+
+    private final boolean enabled;
+    private final Cache<Key, Object> cache;
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * Cache key: the query kind, the normalized filters and the resolved page and sort.
+     */
+    private record Key(String query, ProductSearchCriteria filters, Pageable pageable) {
+    }
+
+    public ProductSearchCache(InventoryProperties properties, MeterRegistry meterRegistry) {
+        InventoryProperties.Search search = properties.getSearch();
+        this.enabled = search.isResultCacheEnabled();
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(search.getResultCacheMaxEntries())
+            .expireAfterWrite(search.getResultCacheTtl())
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * Return the cached result of a search, or run it and cache its result.
+     *
+     * @param query the kind of search, so different result shapes never share a key
+     * @param criteria the search criteria
+     * @param pageable the page and sort resolved from the criteria
+     * @param loader runs the search on a cache miss; must not return null
+     * @return the search result
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(String query, ProductSearchCriteria criteria, Pageable pageable, Supplier<T> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+
+        Key key = new Key(query, normalize(criteria), pageable);
+        Object cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return (T) cached;
+        }
+
+        long observedGeneration = generation.get();
+        T result = loader.get();
+        // Skip results that may predate a write committed while they were being computed
+        if (generation.get() == observedGeneration) {
+            cache.put(key, result);
+        }
+        return result;
+    }
+
+    /**
+     * Drop all cached results once a product write has committed.
+     */
+    @EventListener
+    public void onProductChanged(ProductChangeCommittedEvent event) {
+        invalidateAll();
+    }
+
+    /**
+     * Drop all cached results.
+     */
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    /**
+     * Filters in canonical form, so criteria that produce the same query share an entry:
+     * text is trimmed and lower-cased (matching is case-insensitive), blanks become null,
+     * category and supplier use their lookup keys and decimals drop trailing zeros.
+     * Also keys the counts of ProductCountEstimator.
+     */
+    static ProductSearchCriteria normalize(ProductSearchCriteria criteria) {
+        ProductSearchCriteria filters = criteria.filtersOnly();
+        filters.setSku(normalizeText(filters.getSku()));
+        filters.setNameContaining(normalizeText(filters.getNameContaining()));
+        filters.setDescriptionContaining(normalizeText(filters.getDescriptionContaining()));
+        filters.setCategory(ProductMapper.toLookupKey(filters.getCategory()));
+        filters.setSupplier(ProductMapper.toLookupKey(filters.getSupplier()));
+        filters.setMinPrice(normalizeDecimal(filters.getMinPrice()));
+        filters.setMaxPrice(normalizeDecimal(filters.getMaxPrice()));
+        filters.setMinWeight(normalizeDecimal(filters.getMinWeight()));
+        filters.setMaxWeight(normalizeDecimal(filters.getMaxWeight()));
+        filters.setBelowMinimumStock(Boolean.TRUE.equals(filters.getBelowMinimumStock()) ? Boolean.TRUE : null);
+        filters.setNeedsReorder(Boolean.TRUE.equals(filters.getNeedsReorder()) ? Boolean.TRUE : null);
+        return filters;
+    }
+
+    private static String normalizeText(String value) {
+        return value == null || value.trim().isEmpty() ? null : value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static BigDecimal normalizeDecimal(BigDecimal value) {
+        return value == null ? null : value.stripTrailingZeros();
+    }
+}
@@ -0,0 +1,229 @@
+package com.example.Enterprise_Resource_Planning.inventory.search;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.example.Enterprise_Resource_Planning.inventory.config.InventoryProperties;
+import com.example.Enterprise_Resource_Planning.inventory.dto.response.ProductSuggestionDTO;
+import com.example.Enterprise_Resource_Planning.inventory.event.ProductChangeCommittedEvent;
+import com.example.Enterprise_Resource_Planning.inventory.event.ProductChangedEvent;
+import com.example.Enterprise_Resource_Planning.inventory.model.ProductSnapshot;
+import com.example.Enterprise_Resource_Planning.inventory.repository.ProductRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * In-process prefix index over product names and SKUs for typeahead suggestions,
+ * ranked by inventory value (unit price times quantity in stock).
+ *
+ * The bulk of the entries live in an immutable {@link SortedPrefixIndex} built on startup.
+ * Committed {@link ProductChangedEvent}s go to a small overlay that overrides the base
+ * per product; the overlay is merged into a new base in the background once it grows
+ * past {@code erp.inventory.search.suggest-compaction-threshold}.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ProductSuggestIndex {
+
+    private final ProductRepository productRepository;
+    private final InventoryProperties inventoryProperties;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private SortedPrefixIndex base = SortedPrefixIndex.EMPTY;
+
+    // Current entries of products changed since the base was built; an empty list marks a deletion
+    private final Map<Long, List<SortedPrefixIndex.Entry>> overrides = new HashMap<>();
+    // The same entries, keyed by term and product ID for prefix range scans
+    private final NavigableMap<String, SortedPrefixIndex.Entry> overlay = new TreeMap<>();
+    private volatile boolean ready;
+
+    /**
+     * Look up the products whose name or SKU starts with the prefix (case-insensitive),
+     * highest inventory value first.
+     *
+     * @param prefix the typed prefix
+     * @param limit the maximum number of suggestions
+     * @return the suggestions, or empty if the index is disabled or not built yet
+     */
+    public Optional<List<ProductSuggestionDTO>> suggest(String prefix, int limit) {
+        if (!ready) {
+            return Optional.empty();
+        }
+        String term = normalize(prefix);
+        List<SortedPrefixIndex.Entry> matches = new ArrayList<>();
+        Set<Long> seen = new HashSet<>();
+
+        lock.readLock().lock();
+        try {
+            base.visitByScore(term, entry -> {
+                Long id = entry.product().getId();
+                if (!overrides.containsKey(id) && seen.add(id)) {
+                    matches.add(entry);
+                }
+                return matches.size() < limit;
+            });
+            for (SortedPrefixIndex.Entry entry : overlay.subMap(term, true, term + Character.MAX_VALUE, false).values()) {
+                if (seen.add(entry.product().getId())) {
+                    matches.add(entry);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        return Optional.of(matches.stream()
+            .sorted(SortedPrefixIndex.BY_SCORE)
+            .limit(limit)
+            .map(SortedPrefixIndex.Entry::product)
+            .toList());
+    }
+
+    /**
+     * Apply a committed product change to the overlay.
+     */
+    @EventListener
+    public void onProductChanged(ProductChangeCommittedEvent committed) {
+        ProductChangedEvent event = committed.change();
+        if (!inventoryProperties.getSearch().isSuggestIndexEnabled()) {
+            return;
+        }
+        List<SortedPrefixIndex.Entry> entries = entriesOf(event.current());
+        lock.writeLock().lock();
+        try {
+            List<SortedPrefixIndex.Entry> replaced = overrides.put(event.productId(), entries);
+            if (replaced != null) {
+                replaced.forEach(entry -> overlay.remove(overlayKey(entry)));
+            }
+            entries.forEach(entry -> overlay.put(overlayKey(entry), entry));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Build the base index from the database in ID-ordered batches.
+     * Changes committed meanwhile land in the overlay, which takes precedence over the base.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        if (!inventoryProperties.getSearch().isSuggestIndexEnabled()) {
+            log.info("Product suggest index is disabled");
+            return;
+        }
+
+        int batchSize = inventoryProperties.getSearch().getRebuildBatchSize();
+        List<SortedPrefixIndex.Entry> entries = new ArrayList<>();
+        long lastId = 0;
+        List<ProductSnapshot> batch;
+        do {
+            batch = productRepository.findSnapshotsAfter(lastId, PageRequest.of(0, batchSize));
+            for (ProductSnapshot product : batch) {
+                entries.addAll(entriesOf(product));
+            }
+            if (!batch.isEmpty()) {
+                lastId = batch.get(batch.size() - 1).id();
+            }
+        } while (batch.size() == batchSize);
+
+        SortedPrefixIndex rebuilt = SortedPrefixIndex.of(entries);
+        lock.writeLock().lock();
+        try {
+            base = rebuilt;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Product suggest index rebuilt with {} terms", rebuilt.size());
+    }
+
+    /**
+     * Merge the overlay into a new base once it is large enough to slow down lookups.
+     * The merge runs outside the lock; overrides changed meanwhile stay in the overlay.
+     */
+    @Scheduled(fixedDelayString = "${erp.inventory.search.suggest-compaction-interval:PT30S}")
+    public void compact() {
+        if (!ready) {
+            return;
+        }
+
+        SortedPrefixIndex current;
+        Map<Long, List<SortedPrefixIndex.Entry>> merged;
+        lock.readLock().lock();
+        try {
+            if (overrides.size() < inventoryProperties.getSearch().getSuggestCompactionThreshold()) {
+                return;
+            }
+            current = base;
+            merged = new HashMap<>(overrides);
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<SortedPrefixIndex.Entry> entries = new ArrayList<>(current.size() + merged.size());
+        current.forEach(entry -> {
+            if (!merged.containsKey(entry.product().getId())) {
+                entries.add(entry);
+            }
+        });
+        merged.values().forEach(entries::addAll);
+        SortedPrefixIndex compacted = SortedPrefixIndex.of(entries);
+
+        lock.writeLock().lock();
+        try {
+            base = compacted;
+            merged.forEach((id, merging) -> {
+                if (overrides.remove(id, merging)) {
+                    merging.forEach(entry -> overlay.remove(overlayKey(entry)));
+                }
+            });
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.debug("Product suggest index compacted to {} terms", compacted.size());
+    }
+
+    private static List<SortedPrefixIndex.Entry> entriesOf(ProductSnapshot product) {
+        if (product == null) {
+            return List.of();
+        }
+        BigDecimal value = product.inventoryValue();
+        ProductSuggestionDTO suggestion = new ProductSuggestionDTO(product.id(), product.sku(), product.name(), value);
+        double score = value.doubleValue();
+
+        List<SortedPrefixIndex.Entry> entries = new ArrayList<>(2);
+        if (product.name() != null) {
+            entries.add(new SortedPrefixIndex.Entry(normalize(product.name()), suggestion, score));
+        }
+        if (product.sku() != null) {
+            entries.add(new SortedPrefixIndex.Entry(normalize(product.sku()), suggestion, score));
+        }
+        return entries;
+    }
+
+    private static String overlayKey(SortedPrefixIndex.Entry entry) {
+        return entry.term() + '\u0000' + entry.product().getId();
+    }
+
+    private static String normalize(String text) {
+        return text.trim().toLowerCase(Locale.ROOT);
+    }
+}
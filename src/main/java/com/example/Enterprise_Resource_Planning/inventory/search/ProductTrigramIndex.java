@@ -0,0 +1,180 @@
+package com.example.Enterprise_Resource_Planning.inventory.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import com.example.Enterprise_Resource_Planning.inventory.config.InventoryProperties;
+import com.example.Enterprise_Resource_Planning.inventory.event.ProductChangeCommittedEvent;
+import com.example.Enterprise_Resource_Planning.inventory.event.ProductChangedEvent;
+import com.example.Enterprise_Resource_Planning.inventory.model.ProductSnapshot;
+import com.example.Enterprise_Resource_Planning.inventory.repository.ProductRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * In-process trigram index over product name, SKU and description.
+ * Serves substring lookups that a B-tree index cannot answer ({@code LIKE '%x%'}).
+ *
+ * The index is rebuilt from the database on startup and kept current from
+ * {@link ProductChangedEvent}s after each transaction commits. It only returns
+ * candidate IDs; callers verify them against the product text for exact matches.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ProductTrigramIndex {
+
+    /**
+     * Indexed product fields.
+     */
+    public enum Field {
+        NAME,
+        SKU,
+        DESCRIPTION
+    }
+
+    private final ProductRepository productRepository;
+    private final InventoryProperties inventoryProperties;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final TrigramIndex nameIndex = new TrigramIndex();
+    private final TrigramIndex skuIndex = new TrigramIndex();
+    private final TrigramIndex descriptionIndex = new TrigramIndex();
+
+    // Changes committed while a rebuild is reading the table; replayed once it finishes
+    private final List<ProductChangedEvent> pendingChanges = new ArrayList<>();
+    private volatile boolean rebuilding;
+    private volatile boolean ready;
+
+    /**
+     * Look up candidate product IDs whose field contains the query (case-insensitive).
+     *
+     * @param field the field to search
+     * @param query the substring to look for
+     * @return ascending candidate IDs, or empty if the index cannot answer
+     *         (disabled, not built yet, or query shorter than three characters)
+     */
+    public Optional<long[]> candidates(Field field, String query) {
+        if (!ready || query == null || query.length() < TrigramIndex.GRAM_LENGTH) {
+            return Optional.empty();
+        }
+        lock.readLock().lock();
+        try {
+            return Optional.of(indexFor(field).candidates(query));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Apply a committed product change to the index.
+     */
+    @EventListener
+    public void onProductChanged(ProductChangeCommittedEvent committed) {
+        ProductChangedEvent event = committed.change();
+        if (!inventoryProperties.getSearch().isTrigramIndexEnabled()) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (rebuilding) {
+                pendingChanges.add(event);
+            }
+            apply(event);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Rebuild the index from the database in ID-ordered batches.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        if (!inventoryProperties.getSearch().isTrigramIndexEnabled()) {
+            log.info("Product trigram index is disabled");
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            rebuilding = true;
+            ready = false;
+            nameIndex.clear();
+            skuIndex.clear();
+            descriptionIndex.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        int batchSize = inventoryProperties.getSearch().getRebuildBatchSize();
+        long lastId = 0;
+        long indexed = 0;
+        List<ProductSnapshot> batch;
+        do {
+            batch = productRepository.findSnapshotsAfter(lastId, PageRequest.of(0, batchSize));
+            lock.writeLock().lock();
+            try {
+                for (ProductSnapshot product : batch) {
+                    add(product);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+            if (!batch.isEmpty()) {
+                lastId = batch.get(batch.size() - 1).id();
+                indexed += batch.size();
+            }
+        } while (batch.size() == batchSize);
+
+        lock.writeLock().lock();
+        try {
+            // Re-apply changes that may have raced with the batch reads
+            pendingChanges.forEach(this::apply);
+            pendingChanges.clear();
+            rebuilding = false;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Product trigram index rebuilt with {} products", indexed);
+    }
+
+    private void apply(ProductChangedEvent event) {
+        if (event.previous() != null) {
+            remove(event.previous());
+        }
+        if (event.current() != null) {
+            add(event.current());
+        }
+    }
+
+    private void add(ProductSnapshot product) {
+        nameIndex.add(product.id(), product.name());
+        skuIndex.add(product.id(), product.sku());
+        descriptionIndex.add(product.id(), product.description());
+    }
+
+    private void remove(ProductSnapshot product) {
+        nameIndex.remove(product.id(), product.name());
+        skuIndex.remove(product.id(), product.sku());
+        descriptionIndex.remove(product.id(), product.description());
+    }
+
+    private TrigramIndex indexFor(Field field) {
+        return switch (field) {
+            case NAME -> nameIndex;
+            case SKU -> skuIndex;
+            case DESCRIPTION -> descriptionIndex;
+        };
+    }
+}
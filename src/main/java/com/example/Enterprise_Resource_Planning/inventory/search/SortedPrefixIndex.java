@@ -0,0 +1,167 @@
+package com.example.Enterprise_Resource_Planning.inventory.search;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+import com.example.Enterprise_Resource_Planning.inventory.dto.response.ProductSuggestionDTO;
+
+/**
+ * Immutable prefix index: terms in a sorted array, searched with binary search,
+ * plus a max segment tree over the entry scores.
+ *
+ * A prefix maps to one contiguous range of the array. The segment tree then yields the
+ * entries of that range in descending score order in O(log n) each, so a top-N lookup
+ * costs O(log n + N log n) regardless of how many entries share the prefix.
+ */
+final class SortedPrefixIndex {
+
+    static final SortedPrefixIndex EMPTY = new SortedPrefixIndex(new Entry[0]);
+
+    /**
+     * Descending score, ties broken by ascending product ID.
+     */
+    static final Comparator<Entry> BY_SCORE = Comparator.comparingDouble(Entry::score).reversed()
+        .thenComparing(entry -> entry.product().getId());
+
+    private static final Comparator<Entry> BY_TERM = Comparator.comparing(Entry::term)
+        .thenComparing(entry -> entry.product().getId());
+
+    /**
+     * One indexed term (lower-case name or SKU) of a product.
+     */
+    record Entry(String term, ProductSuggestionDTO product, double score) {
+    }
+
+    private final Entry[] entries;
+    private final int capacity;
+    private final int[] tree; // Argmax position per node; leaves start at index capacity, -1 when empty
+
+    private SortedPrefixIndex(Entry[] sortedEntries) {
+        this.entries = sortedEntries;
+        this.capacity = Integer.highestOneBit(Math.max(1, sortedEntries.length - 1)) << 1;
+        this.tree = new int[capacity * 2];
+        Arrays.fill(tree, -1);
+        for (int i = 0; i < sortedEntries.length; i++) {
+            tree[capacity + i] = i;
+        }
+        for (int node = capacity - 1; node > 0; node--) {
+            tree[node] = better(tree[2 * node], tree[2 * node + 1]);
+        }
+    }
+
+    /**
+     * Build an index over the given entries.
+     */
+    static SortedPrefixIndex of(List<Entry> entries) {
+        Entry[] sorted = entries.toArray(new Entry[0]);
+        Arrays.sort(sorted, BY_TERM);
+        return new SortedPrefixIndex(sorted);
+    }
+
+    int size() {
+        return entries.length;
+    }
+
+    void forEach(Consumer<Entry> action) {
+        for (Entry entry : entries) {
+            action.accept(entry);
+        }
+    }
+
+    /**
+     * Visit the entries whose term starts with the prefix in {@link #BY_SCORE} order.
+     *
+     * @param prefix the lower-case prefix
+     * @param visitor receives each entry; returning false stops the visit
+     */
+    void visitByScore(String prefix, Predicate<Entry> visitor) {
+        int from = lowerBound(prefix);
+        int to = upperBound(prefix, from);
+        if (from >= to) {
+            return;
+        }
+
+        // Each queued range is represented by its best entry; popping it splits the range around it
+        PriorityQueue<int[]> ranges = new PriorityQueue<>(
+            (a, b) -> BY_SCORE.compare(entries[a[2]], entries[b[2]]));
+        ranges.add(new int[] {from, to, argmax(from, to)});
+        while (!ranges.isEmpty()) {
+            int[] range = ranges.poll();
+            int best = range[2];
+            if (!visitor.test(entries[best])) {
+                return;
+            }
+            if (range[0] < best) {
+                ranges.add(new int[] {range[0], best, argmax(range[0], best)});
+            }
+            if (best + 1 < range[1]) {
+                ranges.add(new int[] {best + 1, range[1], argmax(best + 1, range[1])});
+            }
+        }
+    }
+
+    /**
+     * First position whose term is not less than the prefix.
+     */
+    private int lowerBound(String prefix) {
+        int low = 0;
+        int high = entries.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (entries[mid].term().compareTo(prefix) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * First position at or after from whose term does not start with the prefix.
+     * Terms with a common prefix are contiguous in sorted order.
+     */
+    private int upperBound(String prefix, int from) {
+        int low = from;
+        int high = entries.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (entries[mid].term().startsWith(prefix)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Position of the best entry in [from, to).
+     */
+    private int argmax(int from, int to) {
+        int best = -1;
+        for (int left = from + capacity, right = to + capacity; left < right; left >>= 1, right >>= 1) {
+            if ((left & 1) == 1) {
+                best = better(best, tree[left++]);
+            }
+            if ((right & 1) == 1) {
+                best = better(best, tree[--right]);
+            }
+        }
+        return best;
+    }
+
+    private int better(int a, int b) {
+        if (a < 0) {
+            return b;
+        }
+        if (b < 0) {
+            return a;
+        }
+        return BY_SCORE.compare(entries[a], entries[b]) <= 0 ? a : b;
+    }
+}
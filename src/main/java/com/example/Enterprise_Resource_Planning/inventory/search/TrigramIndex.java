@@ -0,0 +1,144 @@
+package com.example.Enterprise_Resource_Planning.inventory.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Inverted index from lower-cased character trigrams to sorted arrays of document IDs.
+ * Answers substring queries of three or more characters with a candidate set that is a
+ * superset of the exact matches; callers verify candidates against the actual text.
+ *
+ * Not thread-safe: callers must guard access.
+ */
+class TrigramIndex {
+
+    static final int GRAM_LENGTH = 3;
+
+    private final Map<Long, PostingList> postings = new HashMap<>();
+
+    /**
+     * Index the trigrams of a text under a document ID.
+     */
+    void add(long id, String text) {
+        for (long trigram : trigramsOf(text)) {
+            postings.computeIfAbsent(trigram, key -> new PostingList()).add(id);
+        }
+    }
+
+    /**
+     * Remove a document ID from the trigrams of the text it was indexed with.
+     */
+    void remove(long id, String text) {
+        for (long trigram : trigramsOf(text)) {
+            PostingList list = postings.get(trigram);
+            if (list != null && list.remove(id) && list.size == 0) {
+                postings.remove(trigram);
+            }
+        }
+    }
+
+    void clear() {
+        postings.clear();
+    }
+
+    /**
+     * Candidate document IDs containing every trigram of the query, in ascending order.
+     *
+     * @param query a query of at least {@link #GRAM_LENGTH} characters
+     * @return the candidate IDs, empty if any trigram is unknown
+     */
+    long[] candidates(String query) {
+        long[] trigrams = trigramsOf(query);
+        List<PostingList> lists = new ArrayList<>(trigrams.length);
+        for (long trigram : trigrams) {
+            PostingList list = postings.get(trigram);
+            if (list == null) {
+                return new long[0];
+            }
+            lists.add(list);
+        }
+        if (lists.isEmpty()) {
+            return new long[0];
+        }
+
+        // Intersect starting from the rarest trigram so the working set only shrinks
+        lists.sort((a, b) -> Integer.compare(a.size, b.size));
+        long[] result = Arrays.copyOf(lists.get(0).ids, lists.get(0).size);
+        int resultSize = result.length;
+        for (int i = 1; i < lists.size() && resultSize > 0; i++) {
+            PostingList list = lists.get(i);
+            int kept = 0;
+            for (int j = 0; j < resultSize; j++) {
+                if (Arrays.binarySearch(list.ids, 0, list.size, result[j]) >= 0) {
+                    result[kept++] = result[j];
+                }
+            }
+            resultSize = kept;
+        }
+        return Arrays.copyOf(result, resultSize);
+    }
+
+    /**
+     * Distinct trigrams of a text, each packed into a long (three 16-bit chars).
+     */
+    static long[] trigramsOf(String text) {
+        if (text == null || text.length() < GRAM_LENGTH) {
+            return new long[0];
+        }
+        String normalized = text.toLowerCase(Locale.ROOT);
+        long[] trigrams = new long[normalized.length() - GRAM_LENGTH + 1];
+        for (int i = 0; i < trigrams.length; i++) {
+            trigrams[i] = ((long) normalized.charAt(i) << 32)
+                | ((long) normalized.charAt(i + 1) << 16)
+                | normalized.charAt(i + 2);
+        }
+        return Arrays.stream(trigrams).distinct().toArray();
+    }
+
+    /**
+     * Growable sorted array of document IDs. IDs are mostly appended in ascending
+     * order (creations and rebuilds), which keeps inserts cheap.
+     */
+    private static final class PostingList {
+
+        private long[] ids = new long[4];
+        private int size;
+
+        void add(long id) {
+            if (size > 0 && ids[size - 1] < id) {
+                ensureCapacity();
+                ids[size++] = id;
+                return;
+            }
+            int index = Arrays.binarySearch(ids, 0, size, id);
+            if (index >= 0) {
+                return;
+            }
+            int insertAt = -index - 1;
+            ensureCapacity();
+            System.arraycopy(ids, insertAt, ids, insertAt + 1, size - insertAt);
+            ids[insertAt] = id;
+            size++;
+        }
+
+        boolean remove(long id) {
+            int index = Arrays.binarySearch(ids, 0, size, id);
+            if (index < 0) {
+                return false;
+            }
+            System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+            size--;
+            return true;
+        }
+
+        private void ensureCapacity() {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size + (size >> 1) + 1);
+            }
+        }
+    }
+}
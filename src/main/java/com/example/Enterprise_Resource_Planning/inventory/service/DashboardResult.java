@@ -0,0 +1,27 @@
+package com.example.Enterprise_Resource_Planning.inventory.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * A dashboard payload together with the time its data was computed.
+ *
+ * @param body the payload
+ * @param computedAt when the payload was computed, null if it was read live
+ */
+public record DashboardResult<T>(T body, LocalDateTime computedAt) {
+
+    /**
+     * A payload read from live data at request time.
+     */
+    public static <T> DashboardResult<T> live(T body) {
+        return new DashboardResult<>(body, null);
+    }
+
+    /**
+     * Age of the payload in whole seconds, 0 for live payloads.
+     */
+    public long ageSeconds() {
+        return computedAt == null ? 0 : Math.max(0, Duration.between(computedAt, LocalDateTime.now()).toSeconds());
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.Enterprise_Resource_Planning.inventory.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.Enterprise_Resource_Planning.inventory.config.InventoryProperties;
+import com.example.Enterprise_Resource_Planning.inventory.dto.response.InventorySummaryDTO;
+import com.example.Enterprise_Resource_Planning.inventory.event.ProductChangedEvent;
+import com.example.Enterprise_Resource_Planning.inventory.model.InventoryAggregate;
+import com.example.Enterprise_Resource_Planning.inventory.model.InventoryTotals;
+import com.example.Enterprise_Resource_Planning.inventory.repository.InventoryAggregateRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Maintains the running inventory totals behind the dashboard summary.
+ *
+ * Every product write applies its delta to one slot row inside the writing transaction,
+ * so the totals commit or roll back together with the product. The delta goes to the slot
+ * of the product's ID: a single totals row would make every product write in the catalog
+ * queue on its row lock, while with slots only writes that land on the same slot do, and
+ * writes to the same product already serialize on the product row. The summary sums the
+ * slots in one query, independent of the catalog size. The totals are recomputed from the
+ * products table on startup, which also repairs drift from writes that bypass ProductService.
+ */
+@Service
+@Transactional
+@RequiredArgsConstructor
+@Slf4j
+public class InventoryAggregateService {
+
+    private final InventoryAggregateRepository aggregateRepository;
+    private final InventoryProperties properties;
+    private final PlatformTransactionManager transactionManager;
+
+    /**
+     * Apply a product change to the totals. Runs synchronously in the transaction
+     * of the product write, unlike the after-commit listeners of the search indexes.
+     */
+    @EventListener
+    public void onProductChanged(ProductChangedEvent event) {
+        InventoryTotals delta = InventoryTotals.delta(event.previous(), event.current());
+        if (delta.isZero()) {
+            return;
+        }
+        long slot = slotOf(event.productId());
+        if (aggregateRepository.applyDelta(slot, delta, LocalDateTime.now()) == 0) {
+            // The slot is created by the startup rebuild; only writes before it get here
+            createSlot(slot);
+            aggregateRepository.applyDelta(slot, delta, LocalDateTime.now());
+        }
+    }
+
+    /**
+     * Recompute the totals from the products table, store them in the first slot and zero the others.
+     * All slots are locked for the duration, so concurrent writes apply their deltas afterwards.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        for (long slot = 1; slot <= slotCount(); slot++) {
+            createSlot(slot);
+        }
+        List<InventoryAggregate> slots = aggregateRepository.findAllForUpdate();
+        InventoryTotals totals = aggregateRepository.computeCatalogTotals();
+        LocalDateTime now = LocalDateTime.now();
+        for (InventoryAggregate aggregate : slots) {
+            aggregate.setTotals(aggregate == slots.get(0) ? totals : InventoryTotals.ZERO, now);
+        }
+        aggregateRepository.saveAll(slots);
+        log.info("Inventory aggregates rebuilt for {} products over {} slots", totals.productCount(), slots.size());
+    }
+
+    /**
+     * Read the dashboard summary from the running totals.
+     */
+    @Transactional(readOnly = true)
+    public InventorySummaryDTO getSummary() {
+        InventoryAggregate sum = aggregateRepository.sumSlots();
+        return InventorySummaryDTO.of(sum.getTotals(), sum.getUpdatedAt());
+    }
+
+    /**
+     * Create a slot unless it exists. The insert commits in its own transaction, so the slot
+     * is visible to concurrent writers at once, and a duplicate key from a writer that created
+     * the same slot concurrently is ignored instead of failing the product write.
+     */
+    private void createSlot(long slot) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        try {
+            transaction.executeWithoutResult(status -> {
+                if (!aggregateRepository.existsById(slot)) {
+                    aggregateRepository.insertEmptySlot(slot, LocalDateTime.now());
+                }
+            });
+        } catch (DataIntegrityViolationException e) {
+            log.debug("Inventory aggregate slot {} was created concurrently", slot);
+        }
+    }
+
+    private long slotOf(Long productId) {
+        return Math.floorMod(productId, (long) slotCount()) + 1;
+    }
+
+    private int slotCount() {
+        return Math.max(1, properties.getDashboard().getAggregateSlots());
+    }
+}
@@ -0,0 +1,224 @@
+package com.example.Enterprise_Resource_Planning.inventory.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.example.Enterprise_Resource_Planning.inventory.alert.StockAlertEngine;
+import com.example.Enterprise_Resource_Planning.inventory.analytics.InventoryAnalyticsEngine;
+import com.example.Enterprise_Resource_Planning.inventory.analytics.InventoryDashboardSnapshot;
+import com.example.Enterprise_Resource_Planning.inventory.config.InventoryProperties;
+import com.example.Enterprise_Resource_Planning.inventory.config.InventoryProperties.Dashboard.Mode;
+import com.example.Enterprise_Resource_Planning.inventory.dto.response.CategoryMetricsDTO;
+import com.example.Enterprise_Resource_Planning.inventory.dto.response.InventorySummaryDTO;
+import com.example.Enterprise_Resource_Planning.inventory.dto.response.ProductSummaryDTO;
+import com.example.Enterprise_Resource_Planning.inventory.event.ProductChangeCommittedEvent;
+import com.example.Enterprise_Resource_Planning.inventory.exception.InvalidProductDataException;
+import com.example.Enterprise_Resource_Planning.inventory.mapper.ProductMapper;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Serves the inventory dashboard in the mode set by {@code erp.inventory.dashboard.mode}.
+ *
+ * In {@code ON_DEMAND} and {@code PRECOMPUTED} mode, every dashboard metric comes from one
+ * immutable {@link InventoryDashboardSnapshot} computed by the {@link InventoryAnalyticsEngine}.
+ * On demand, the snapshot is computed on first use and dropped once a product write commits.
+ * Precomputed, it is replaced in the background every refresh interval and is never dropped,
+ * so requests do not wait for a computation; a snapshot older than the staleness bound is
+ * recomputed by the first request that sees it. Only one snapshot is computed at a time.
+ * In {@code DATABASE} mode each metric is read separately from the running totals and the
+ * database queries of ProductService. The alert lists are served from the alert sets of
+ * the {@link StockAlertEngine} once they are built.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class InventoryDashboardService {
+
+    private final InventoryAnalyticsEngine analyticsEngine;
+    private final StockAlertEngine stockAlertEngine;
+    private final InventoryAggregateService inventoryAggregateService;
+    private final ProductService productService;
+    private final InventoryProperties properties;
+
+    private volatile InventoryDashboardSnapshot snapshot;
+    // Incremented on every invalidation, guarded by this
+    private long generation;
+    // Held while a snapshot is computed
+    private final ReentrantLock computeLock = new ReentrantLock();
+    // The last snapshot computed, stored or not, guarded by computeLock
+    private Computation lastComputation;
+
+    private record Computation(InventoryDashboardSnapshot snapshot, long startedNanos) {
+    }
+
+    /**
+     * Catalog totals and stock status distribution.
+     */
+    public DashboardResult<InventorySummaryDTO> getSummary() {
+        return mode() == Mode.DATABASE
+                ? DashboardResult.live(inventoryAggregateService.getSummary())
+                : fromSnapshot(InventoryDashboardSnapshot::summary);
+    }
+
+    /**
+     * Products below their minimum stock level.
+     */
+    public DashboardResult<List<ProductSummaryDTO>> getLowStockAlerts() {
+        return stockAlertEngine.getBelowMinimumStock().map(DashboardResult::live).orElseGet(() -> mode() == Mode.DATABASE
+                ? DashboardResult.live(productService.getProductsBelowMinimumStock())
+                : fromSnapshot(InventoryDashboardSnapshot::belowMinimumStock));
+    }
+
+    /**
+     * Products at or below their reorder point.
+     */
+    public DashboardResult<List<ProductSummaryDTO>> getReorderAlerts() {
+        return stockAlertEngine.getReorderNeeded().map(DashboardResult::live).orElseGet(() -> mode() == Mode.DATABASE
+                ? DashboardResult.live(productService.getProductsNeedingReorder())
+                : fromSnapshot(InventoryDashboardSnapshot::reorderNeeded));
+    }
+
+    /**
+     * Inventory metrics per category, ordered by category; uncategorized products share a row with a null category.
+     */
+    public DashboardResult<List<CategoryMetricsDTO>> getCategoryMetrics() {
+        return mode() == Mode.DATABASE
+                ? DashboardResult.live(productService.getCategoryMetrics())
+                : fromSnapshot(InventoryDashboardSnapshot::categoryMetrics);
+    }
+
+    /**
+     * The products with the highest inventory value. Snapshots keep the default limit of
+     * products per category, so larger category requests are answered by the database.
+     * @param limit the number of products to return, or null for the configured default
+     * @param category optional category filter (case-insensitive)
+     * @return at most {@code limit} products, most valuable first
+     * @throws InvalidProductDataException if the limit is outside 1 and the configured maximum
+     */
+    public DashboardResult<List<ProductSummaryDTO>> getMostValuableProducts(Integer limit, String category) {
+        InventoryProperties.Dashboard settings = properties.getDashboard();
+        int k = limit != null ? limit : settings.getTopValuableDefaultLimit();
+        if (k < 1 || k > settings.getTopValuableMaxLimit()) {
+            throw new InvalidProductDataException("Limit must be between 1 and " + settings.getTopValuableMaxLimit());
+        }
+        String categoryKey = ProductMapper.toLookupKey(category);
+        return mode() == Mode.DATABASE || categoryKey != null && k > settings.getTopValuableDefaultLimit()
+                ? DashboardResult.live(productService.getMostValuableProducts(k, category))
+                : fromSnapshot(current -> current.mostValuable(categoryKey, k));
+    }
+
+    /**
+     * Drop the on-demand snapshot once a product write has committed.
+     * Precomputed snapshots are kept until the next refresh.
+     */
+    @EventListener
+    public void onProductChanged(ProductChangeCommittedEvent event) {
+        if (mode() == Mode.ON_DEMAND) {
+            invalidate();
+        }
+    }
+
+    /**
+     * Recompute the precomputed snapshot. Skipped while another computation is running.
+     */
+    @Scheduled(fixedDelayString = "${erp.inventory.dashboard.refresh-interval:PT5S}")
+    public void refresh() {
+        if (mode() != Mode.PRECOMPUTED || !computeLock.tryLock()) {
+            return;
+        }
+        try {
+            computeAndStore();
+        } catch (RuntimeException e) {
+            log.warn("Inventory dashboard refresh failed, serving the previous snapshot", e);
+        } finally {
+            computeLock.unlock();
+        }
+    }
+
+    /**
+     * Drop the snapshot, so the next dashboard request computes a new one.
+     */
+    public synchronized void invalidate() {
+        generation++;
+        snapshot = null;
+    }
+
+    private <T> DashboardResult<T> fromSnapshot(Function<InventoryDashboardSnapshot, T> metric) {
+        InventoryDashboardSnapshot current = currentSnapshot();
+        return new DashboardResult<>(metric.apply(current), current.computedAt());
+    }
+
+    private InventoryDashboardSnapshot currentSnapshot() {
+        InventoryDashboardSnapshot current = snapshot;
+        if (current == null) {
+            return computeIfAbsent();
+        }
+        // A stale precomputed snapshot is replaced by one request; the others keep serving it meanwhile
+        if (mode() == Mode.PRECOMPUTED && isStale(current) && computeLock.tryLock()) {
+            try {
+                return computeAndStore();
+            } finally {
+                computeLock.unlock();
+            }
+        }
+        return current;
+    }
+
+    // Requests arriving while the snapshot is computed wait for it instead of computing their own.
+    // A computation that started after a request arrived has seen every write committed before
+    // that request, so the request may use its result even when a later write kept it from
+    // being stored; under steady writes, waiting requests then share one scan instead of
+    // queueing up for one scan each.
+    private InventoryDashboardSnapshot computeIfAbsent() {
+        long requested = System.nanoTime();
+        computeLock.lock();
+        try {
+            InventoryDashboardSnapshot current = snapshot;
+            if (current != null) {
+                return current;
+            }
+            Computation last = lastComputation;
+            if (last != null && last.startedNanos() - requested >= 0) {
+                return last.snapshot();
+            }
+            return computeAndStore();
+        } finally {
+            computeLock.unlock();
+        }
+    }
+
+    private InventoryDashboardSnapshot computeAndStore() {
+        long observedGeneration;
+        synchronized (this) {
+            observedGeneration = generation;
+        }
+        long started = System.nanoTime();
+        InventoryDashboardSnapshot computed = analyticsEngine.compute();
+        lastComputation = new Computation(computed, started);
+        store(computed, observedGeneration);
+        return computed;
+    }
+
+    // Skip snapshots that may predate a write committed while they were being computed
+    private synchronized void store(InventoryDashboardSnapshot computed, long observedGeneration) {
+        if (generation == observedGeneration) {
+            snapshot = computed;
+        }
+    }
+
+    private boolean isStale(InventoryDashboardSnapshot current) {
+        return current.computedAt().isBefore(LocalDateTime.now().minus(properties.getDashboard().getMaxStaleness()));
+    }
+
+    private Mode mode() {
+        return properties.getDashboard().getMode();
+    }
+}
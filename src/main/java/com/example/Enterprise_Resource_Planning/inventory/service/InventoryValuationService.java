@@ -0,0 +1,183 @@
+package com.example.Enterprise_Resource_Planning.inventory.service;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.Enterprise_Resource_Planning.inventory.config.InventoryProperties;
+import com.example.Enterprise_Resource_Planning.inventory.dto.response.CategoryMetricsDTO;
+import com.example.Enterprise_Resource_Planning.inventory.dto.response.InventorySummaryDTO;
+import com.example.Enterprise_Resource_Planning.inventory.dto.response.InventoryValuationDTO;
+import com.example.Enterprise_Resource_Planning.inventory.dto.response.InventoryValuationHistoryDTO;
+import com.example.Enterprise_Resource_Planning.inventory.model.InventoryCategoryValuation;
+import com.example.Enterprise_Resource_Planning.inventory.model.InventoryValuation;
+import com.example.Enterprise_Resource_Planning.inventory.repository.InventoryCategoryValuationRepository;
+import com.example.Enterprise_Resource_Planning.inventory.repository.InventoryValuationRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Records the catalog valuation on a schedule and answers historical valuation queries.
+ *
+ * Each capture stores the total inventory value, the stock status distribution and
+ * one row per category, taken from the current dashboard metrics. History requests
+ * read only the valuation tables, never the products table.
+ */
+@Service
+@Transactional
+@RequiredArgsConstructor
+@Slf4j
+public class InventoryValuationService {
+
+    private final InventoryValuationRepository valuationRepository;
+    private final InventoryCategoryValuationRepository categoryValuationRepository;
+    private final InventoryDashboardService inventoryDashboardService;
+    private final InventoryProperties properties;
+
+    /**
+     * Record the current valuation and delete the valuations older than the retention period.
+     */
+    @Scheduled(cron = "${erp.inventory.valuation.snapshot-cron:0 0 * * * *}")
+    public void recordScheduledValuation() {
+        if (!properties.getValuation().isSnapshotEnabled()) {
+            return;
+        }
+        InventoryValuationDTO valuation = capture();
+        LocalDateTime cutoff = valuation.getCapturedAt().minus(properties.getValuation().getRetention());
+        categoryValuationRepository.deleteForValuationsCapturedBefore(cutoff);
+        int purged = valuationRepository.deleteCapturedBefore(cutoff);
+        log.info("Inventory valuation recorded for {} products, {} expired valuations deleted",
+            valuation.getTotalProducts(), purged);
+    }
+
+    /**
+     * Record the current catalog valuation.
+     * @return the recorded valuation
+     */
+    public InventoryValuationDTO capture() {
+        InventorySummaryDTO summary = inventoryDashboardService.getSummary().body();
+        List<CategoryMetricsDTO> categoryMetrics = inventoryDashboardService.getCategoryMetrics().body();
+        Map<String, Long> statusCounts = summary.getStockStatusDistribution();
+
+        InventoryValuation valuation = new InventoryValuation();
+        valuation.setCapturedAt(LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS));
+        valuation.setProductCount(summary.getTotalProducts());
+        valuation.setTotalValue(summary.getTotalInventoryValue());
+        valuation.setNormalCount(statusCounts.getOrDefault("NORMAL", 0L));
+        valuation.setLowCount(statusCounts.getOrDefault("LOW", 0L));
+        valuation.setCriticalCount(statusCounts.getOrDefault("CRITICAL", 0L));
+        valuation.setOutOfStockCount(statusCounts.getOrDefault("OUT_OF_STOCK", 0L));
+        valuation.setUnknownCount(statusCounts.getOrDefault("UNKNOWN", 0L));
+        valuation = valuationRepository.save(valuation);
+
+        List<InventoryCategoryValuation> categories = new ArrayList<>(categoryMetrics.size());
+        for (CategoryMetricsDTO metrics : categoryMetrics) {
+            InventoryCategoryValuation category = new InventoryCategoryValuation();
+            category.setValuationId(valuation.getId());
+            category.setCategory(metrics.getCategory());
+            category.setProductCount(metrics.getProductCount());
+            category.setTotalValue(metrics.getTotalValue());
+            category.setLowStockCount(metrics.getLowStockCount());
+            categories.add(category);
+        }
+        categoryValuationRepository.saveAll(categories);
+
+        return toDTO(valuation, categories);
+    }
+
+    /**
+     * Find the valuations recorded within a time range, oldest first.
+     * @param from start of the range (inclusive), or null for the configured default range before {@code to}
+     * @param to end of the range (inclusive), or null for now
+     * @return at most the configured maximum number of valuations
+     * @throws IllegalArgumentException if {@code from} is after {@code to}
+     */
+    @Transactional(readOnly = true)
+    public InventoryValuationHistoryDTO getHistory(LocalDateTime from, LocalDateTime to) {
+        InventoryProperties.Valuation settings = properties.getValuation();
+        LocalDateTime end = to != null ? to : LocalDateTime.now();
+        LocalDateTime start = from != null ? from : end.minus(settings.getHistoryDefaultRange());
+        if (start.isAfter(end)) {
+            throw new IllegalArgumentException("History range start must not be after its end");
+        }
+
+        int maxPoints = settings.getHistoryMaxPoints();
+        // One extra row tells whether the range holds more valuations than are returned
+        List<InventoryValuation> valuations = valuationRepository.findByCapturedAtBetweenOrderByCapturedAtAsc(
+            start, end, PageRequest.of(0, maxPoints + 1));
+        boolean truncated = valuations.size() > maxPoints;
+        if (truncated) {
+            valuations = valuations.subList(0, maxPoints);
+        }
+
+        return InventoryValuationHistoryDTO.builder()
+            .from(start)
+            .to(end)
+            .valuations(toDTOs(valuations))
+            .truncated(truncated)
+            .build();
+    }
+
+    /**
+     * Find the latest valuation recorded at or before a point in time.
+     * @param at the point in time
+     * @return the valuation, empty if none was recorded by then
+     */
+    @Transactional(readOnly = true)
+    public Optional<InventoryValuationDTO> getValuationAsOf(LocalDateTime at) {
+        return valuationRepository.findFirstByCapturedAtLessThanEqualOrderByCapturedAtDesc(at)
+            .map(valuation -> toDTOs(List.of(valuation)).get(0));
+    }
+
+    // Loads the category rows of all valuations with one query
+    private List<InventoryValuationDTO> toDTOs(List<InventoryValuation> valuations) {
+        if (valuations.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, List<InventoryCategoryValuation>> categoriesByValuation = categoryValuationRepository
+            .findByValuationIdInOrderByValuationIdAscCategoryAsc(
+                valuations.stream().map(InventoryValuation::getId).toList())
+            .stream()
+            .collect(Collectors.groupingBy(InventoryCategoryValuation::getValuationId));
+        return valuations.stream()
+            .map(valuation -> toDTO(valuation, categoriesByValuation.getOrDefault(valuation.getId(), List.of())))
+            .toList();
+    }
+
+    private static InventoryValuationDTO toDTO(InventoryValuation valuation, List<InventoryCategoryValuation> categories) {
+        Map<String, Long> statusDistribution = new LinkedHashMap<>();
+        putIfPresent(statusDistribution, "NORMAL", valuation.getNormalCount());
+        putIfPresent(statusDistribution, "LOW", valuation.getLowCount());
+        putIfPresent(statusDistribution, "CRITICAL", valuation.getCriticalCount());
+        putIfPresent(statusDistribution, "OUT_OF_STOCK", valuation.getOutOfStockCount());
+        putIfPresent(statusDistribution, "UNKNOWN", valuation.getUnknownCount());
+
+        return InventoryValuationDTO.builder()
+            .capturedAt(valuation.getCapturedAt())
+            .totalProducts(valuation.getProductCount())
+            .totalInventoryValue(valuation.getTotalValue())
+            .stockStatusDistribution(statusDistribution)
+            .categories(categories.stream()
+                .map(category -> new CategoryMetricsDTO(category.getCategory(), category.getProductCount(),
+                    category.getTotalValue(), category.getLowStockCount()))
+                .toList())
+            .build();
+    }
+
+    private static void putIfPresent(Map<String, Long> distribution, String status, long count) {
+        if (count > 0) {
+            distribution.put(status, count);
+        }
+    }
+}
@@ -1,36 +1,105 @@
 package com.example.Enterprise_Resource_Planning.inventory.service;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.example.Enterprise_Resource_Planning.inventory.dto.request.ProductCreateDTO;
 import com.example.Enterprise_Resource_Planning.inventory.dto.request.ProductSearchCriteria;
 import com.example.Enterprise_Resource_Planning.inventory.dto.request.ProductUpdateDTO;
+import com.example.Enterprise_Resource_Planning.inventory.dto.response.CategoryMetricsDTO;
+import com.example.Enterprise_Resource_Planning.inventory.dto.response.CursorPageDTO;
+import com.example.Enterprise_Resource_Planning.inventory.dto.response.FacetedPageDTO;
+import com.example.Enterprise_Resource_Planning.inventory.dto.response.ProductBatchLookupDTO;
+import com.example.Enterprise_Resource_Planning.inventory.dto.response.ProductFacetsDTO;
 import com.example.Enterprise_Resource_Planning.inventory.dto.response.ProductResponseDTO;
+import com.example.Enterprise_Resource_Planning.inventory.dto.response.ProductSearchHitDTO;
+import com.example.Enterprise_Resource_Planning.inventory.dto.response.ProductSuggestionDTO;
 import com.example.Enterprise_Resource_Planning.inventory.dto.response.ProductSummaryDTO;
+import com.example.Enterprise_Resource_Planning.inventory.dto.response.SlicePageDTO;
+import com.example.Enterprise_Resource_Planning.inventory.event.ProductChangedEvent;
+import com.example.Enterprise_Resource_Planning.inventory.exception.InsufficientStockException;
+import com.example.Enterprise_Resource_Planning.inventory.exception.InvalidProductDataException;
 import com.example.Enterprise_Resource_Planning.inventory.exception.ProductNotFoundException;
+import com.example.Enterprise_Resource_Planning.inventory.exception.SearchUnavailableException;
 import com.example.Enterprise_Resource_Planning.inventory.mapper.ProductMapper;
 import com.example.Enterprise_Resource_Planning.inventory.model.Product;
+import com.example.Enterprise_Resource_Planning.inventory.model.ProductSnapshot;
 import com.example.Enterprise_Resource_Planning.inventory.model.ProductStatus;
 import com.example.Enterprise_Resource_Planning.inventory.repository.ProductRepository;
+import com.example.Enterprise_Resource_Planning.inventory.search.ProductCountEstimator;
+import com.example.Enterprise_Resource_Planning.inventory.search.ProductFullTextIndex;
+import com.example.Enterprise_Resource_Planning.inventory.search.ProductSearchCache;
+import com.example.Enterprise_Resource_Planning.inventory.search.ProductSuggestIndex;
+import com.example.Enterprise_Resource_Planning.inventory.search.ProductTrigramIndex;
+import com.example.Enterprise_Resource_Planning.inventory.specification.ProductSpecification;
+import com.example.Enterprise_Resource_Planning.inventory.utils.Money;
+import com.example.Enterprise_Resource_Planning.inventory.utils.ProductCursor;
+import com.example.Enterprise_Resource_Planning.inventory.utils.TopK;
 import com.example.Enterprise_Resource_Planning.inventory.validation.ProductValidator;
+
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+
 @Service
 @Transactional
+@Slf4j
 public class ProductService {
     private final ProductRepository productRepository;
     private final ProductValidator productValidator;
     private final ProductMapper productMapper;
+    private final ProductTrigramIndex productTrigramIndex;
+    private final ProductFullTextIndex productFullTextIndex;
+    private final ProductCountEstimator productCountEstimator;
+    private final ProductSearchCache productSearchCache;
+    private final ProductSuggestIndex productSuggestIndex;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EntityManager entityManager;
+
+    private static final int ID_LOOKUP_CHUNK_SIZE = 1000;
+    // Substring filters with at most this many trigram candidates are narrowed to an ID lookup
+    private static final int MAX_SUBSTRING_CANDIDATES = ID_LOOKUP_CHUNK_SIZE;
 
-    public ProductService(ProductRepository productRepository, ProductValidator productValidator, ProductMapper productMapper) {
+    // Set once the startup backfill has brought the stored inventory values up to date
+    private volatile boolean inventoryValuesReady;
+
+    public ProductService(ProductRepository productRepository, ProductValidator productValidator, ProductMapper productMapper,
+            ProductTrigramIndex productTrigramIndex, ProductFullTextIndex productFullTextIndex,
+            ProductCountEstimator productCountEstimator, ProductSearchCache productSearchCache,
+            ProductSuggestIndex productSuggestIndex, ApplicationEventPublisher eventPublisher,
+            EntityManager entityManager) {
         this.productRepository = productRepository;
         this.productValidator = productValidator;
         this.productMapper = productMapper;
+        this.productTrigramIndex = productTrigramIndex;
+        this.productFullTextIndex = productFullTextIndex;
+        this.productCountEstimator = productCountEstimator;
+        this.productSearchCache = productSearchCache;
+        this.productSuggestIndex = productSuggestIndex;
+        this.eventPublisher = eventPublisher;
+        this.entityManager = entityManager;
     }
     /**
      * Creates a new product.
@@ -43,6 +112,7 @@ public class ProductService {
         Product product = productMapper.toEntity(productCreateDTO);
         product.setStatus(ProductStatus.ACTIVE); // Default status
         Product savedProduct = productRepository.save(product);
+        eventPublisher.publishEvent(ProductChangedEvent.created(ProductSnapshot.of(savedProduct)));
         return productMapper.toResponseDTO(savedProduct);
     }
 
@@ -60,8 +130,11 @@ public class ProductService {
         Product existingProduct = productRepository.findById(productId)
                 .orElseThrow(() -> new ProductNotFoundException("Product not found with ID: " + productId));
         
+        ProductSnapshot previous = ProductSnapshot.of(existingProduct);
         productMapper.updateEntity(existingProduct, productUpdateDTO);
-        Product savedProduct = productRepository.save(existingProduct);
+        // Flushed so the snapshot carries the new modification timestamp
+        Product savedProduct = productRepository.saveAndFlush(existingProduct);
+        eventPublisher.publishEvent(ProductChangedEvent.updated(previous, ProductSnapshot.of(savedProduct)));
         return productMapper.toResponseDTO(savedProduct);
     }
 
@@ -97,67 +170,107 @@ public class ProductService {
         return productMapper.toResponseDTO(product);
     }
 
+    /**
+     * Retrieves many products by ID with chunked IN queries.
+     * @param ids the product IDs, without duplicates
+     * @return the found products and the missing IDs, both in request order
+     * @throws InvalidProductDataException if the ID list is empty, too long or contains duplicates
+     */
+    @Transactional(readOnly = true)
+    public ProductBatchLookupDTO<Long> getProductsByIds(List<Long> ids) {
+        productValidator.validateProductIds(ids);
+        
+        Map<Long, Product> productsById = new HashMap<>(ids.size() * 2);
+        for (int from = 0; from < ids.size(); from += ID_LOOKUP_CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + ID_LOOKUP_CHUNK_SIZE, ids.size()));
+            productRepository.findAllById(chunk).forEach(product -> productsById.put(product.getId(), product));
+        }
+        
+        return toBatchLookup(ids, productsById);
+    }
+
+    /**
+     * Retrieves many products by SKU with chunked IN queries.
+     * The IN match follows the column collation, which is case-insensitive on MySQL, so the
+     * returned products are matched back to the requested SKUs ignoring case as well.
+     * @param skus the product SKUs, without duplicates
+     * @return the found products and the missing SKUs, both in request order
+     * @throws InvalidProductDataException if the SKU list is empty, too long, invalid or contains duplicates
+     */
+    @Transactional(readOnly = true)
+    public ProductBatchLookupDTO<String> getProductsBySkus(List<String> skus) {
+        productValidator.validateSkus(skus);
+        
+        List<String> trimmedSkus = skus.stream().map(String::trim).toList();
+        Map<String, Product> productsBySkuKey = new HashMap<>(skus.size() * 2);
+        for (int from = 0; from < trimmedSkus.size(); from += ID_LOOKUP_CHUNK_SIZE) {
+            List<String> chunk = trimmedSkus.subList(from, Math.min(from + ID_LOOKUP_CHUNK_SIZE, trimmedSkus.size()));
+            productRepository.findBySkuIn(chunk).forEach(product -> productsBySkuKey.put(skuKey(product.getSku()), product));
+        }
+        
+        // Keyed by the requested spelling, so misses are reported as requested
+        Map<String, Product> productsBySku = new HashMap<>(skus.size() * 2);
+        for (String sku : trimmedSkus) {
+            Product product = productsBySkuKey.get(skuKey(sku));
+            if (product != null) {
+                productsBySku.put(sku, product);
+            }
+        }
+        return toBatchLookup(trimmedSkus, productsBySku);
+    }
+
     /**
      * Retrieves all products as summary DTOs.
      * @return list of product summary DTOs
      */
     @Transactional(readOnly = true)
     public List<ProductSummaryDTO> getAllProducts() {
-        List<Product> products = productRepository.findAll();
-        return productMapper.toSummaryDTOList(products);
+        return productRepository.findAllSummaries();
+    }
+
+    /**
+     * Streams the full product catalog to a consumer, one product at a time.
+     * Rows are read through a forward-only cursor and each entity is detached once
+     * handed off, so memory use does not grow with the catalog size.
+     * @param consumer receives each product in ID order
+     */
+    @Transactional(readOnly = true)
+    public void exportProducts(Consumer<ProductResponseDTO> consumer) {
+        try (Stream<Product> products = productRepository.streamAll()) {
+            products.forEach(product -> {
+                consumer.accept(productMapper.toResponseDTO(product));
+                entityManager.detach(product);
+            });
+        }
     }
 
     /**
      * Searches products based on criteria.
+     * Sorting and pagination run in the database, so at most one page of
+     * products is loaded per request. Results are cached until the next product write.
      * @param criteria the search criteria
      * @return list of product summary DTOs matching the criteria
      */
     @Transactional(readOnly = true)
     public List<ProductSummaryDTO> searchProducts(ProductSearchCriteria criteria) {
-        if (criteria == null || !criteria.hasSearchCriteria()) {
-            // If no criteria provided, return all products
-            return getAllProducts();
+        if (criteria == null) {
+            // No criteria provided: the first page of all products, 20 per page
+            criteria = new ProductSearchCriteria();
         }
         
         // Validate criteria ranges
         validateSearchCriteria(criteria);
         
-        List<Product> products;
-        
-        // Check for special search cases first
-        if (Boolean.TRUE.equals(criteria.getNeedsReorder())) {
-            products = productRepository.findProductsNeedingReorder();
-        } else if (Boolean.TRUE.equals(criteria.getBelowMinimumStock())) {
-            products = productRepository.findProductsBelowMinimumStock();
-        } else {
-            // Use the comprehensive search query
-            products = productRepository.findProductsByCriteria(
-                criteria.getNameContaining(),
-                criteria.getSku(),
-                criteria.getDescriptionContaining(),
-                criteria.getStatus(),
-                criteria.getCategory(),
-                criteria.getSupplier(),
-                criteria.getMinPrice(),
-                criteria.getMaxPrice(),
-                criteria.getMinQuantity(),
-                criteria.getMaxQuantity(),
-                criteria.getMinWeight(),
-                criteria.getMaxWeight()
-            );
-        }
-        
-        // Apply sorting if specified
-        products = applySorting(products, criteria);
-        
-        // Apply pagination if specified
-        products = applyPagination(products, criteria);
-        
-        return productMapper.toSummaryDTOList(products);
+        // Only the criteria that are present become predicates; sort and limit run in SQL
+        ProductSearchCriteria effectiveCriteria = criteria;
+        Pageable pageable = createPageable(criteria);
+        return productSearchCache.get("list", criteria, pageable,
+            () -> List.copyOf(productRepository.findSummaries(searchSpecification(effectiveCriteria), pageable)));
     }
 
     /**
      * Searches products with pagination support.
+     * Results are cached until the next product write.
      * @param criteria the search criteria
      * @return paginated list of product summary DTOs
      */
@@ -170,25 +283,132 @@ public class ProductService {
         validateSearchCriteria(criteria);
         
         // Create pageable object
+        ProductSearchCriteria effectiveCriteria = criteria;
+        Pageable pageable = createPageable(criteria);
+        
+        return productSearchCache.get("page", criteria, pageable,
+            () -> productRepository.findSummaryPage(searchSpecification(effectiveCriteria), pageable));
+    }
+
+    /**
+     * Searches products page by page without counting the full result set.
+     * One row more than the page size is fetched to report whether a next page exists;
+     * an estimated total is added only when {@code estimateTotal} is set.
+     * @param criteria the search criteria
+     * @return the page content with the hasNext flag and optional estimated total
+     */
+    @Transactional(readOnly = true)
+    public SlicePageDTO<ProductSummaryDTO> searchProductsSlice(ProductSearchCriteria criteria) {
+        if (criteria == null) {
+            criteria = new ProductSearchCriteria();
+        }
+        
+        validateSearchCriteria(criteria);
+        
         Pageable pageable = createPageable(criteria);
+        Specification<Product> specification = searchSpecification(criteria);
+        Slice<ProductSummaryDTO> slice = productRepository.findSummarySlice(specification, pageable);
+        
+        Long estimatedTotal = Boolean.TRUE.equals(criteria.getEstimateTotal())
+            ? productCountEstimator.estimate(criteria, specification)
+            : null;
+        
+        return SlicePageDTO.<ProductSummaryDTO>builder()
+            .content(slice.getContent())
+            .page(slice.getNumber())
+            .size(slice.getSize())
+            .hasNext(slice.hasNext())
+            .estimatedTotal(estimatedTotal)
+            .build();
+    }
+
+    /**
+     * Searches products and returns the requested page together with category, supplier
+     * and status counts over the whole matching set.
+     * The counts come from one narrow grouped query per facet; the status counts add up to the
+     * total, which replaces the page count query.
+     * @param criteria the search criteria
+     * @return the page content with facet histograms
+     */
+    @Transactional(readOnly = true)
+    public FacetedPageDTO<ProductSummaryDTO> searchProductsFaceted(ProductSearchCriteria criteria) {
+        if (criteria == null) {
+            criteria = new ProductSearchCriteria();
+        }
         
-        Page<Product> productPage = productRepository.findProductsByCriteriaPageable(
-            criteria.getNameContaining(),
-            criteria.getSku(),
-            criteria.getDescriptionContaining(),
-            criteria.getStatus(),
-            criteria.getCategory(),
-            criteria.getSupplier(),
-            criteria.getMinPrice(),
-            criteria.getMaxPrice(),
-            criteria.getMinQuantity(),
-            criteria.getMaxQuantity(),
-            criteria.getMinWeight(),
-            criteria.getMaxWeight(),
-            pageable
-        );
+        validateSearchCriteria(criteria);
         
-        return productPage.map(productMapper::toSummaryDTO);
+        Pageable pageable = createPageable(criteria);
+        Specification<Product> specification = searchSpecification(criteria);
+        List<ProductSummaryDTO> content = productRepository.findSummaries(specification, pageable);
+        ProductFacetsDTO facets = productRepository.findFacets(specification);
+        
+        return FacetedPageDTO.<ProductSummaryDTO>builder()
+            .content(content)
+            .page(pageable.getPageNumber())
+            .size(pageable.getPageSize())
+            .totalElements(facets.getTotal())
+            .totalPages((int) ((facets.getTotal() + pageable.getPageSize() - 1) / pageable.getPageSize()))
+            .facets(facets)
+            .build();
+    }
+
+    /**
+     * Searches products with keyset (cursor) pagination.
+     * Each page seeks directly past the previous one, so latency does not grow with depth
+     * and no total count is computed.
+     * @param criteria the search criteria; {@code cursor} is null for the first page
+     * @return the page content together with the cursor of the next page
+     * @throws IllegalArgumentException if the cursor is malformed or does not match the requested sort
+     */
+    @Transactional(readOnly = true)
+    public CursorPageDTO<ProductSummaryDTO> searchProductsByCursor(ProductSearchCriteria criteria) {
+        if (criteria == null) {
+            criteria = new ProductSearchCriteria();
+        }
+        
+        validateSearchCriteria(criteria);
+        
+        int size = criteria.getSize() != null ? Math.max(1, Math.min(100, criteria.getSize())) : 20;
+        String sortField = criteria.getSortBy() != null && !criteria.getSortBy().trim().isEmpty()
+            ? mapSortField(criteria.getSortBy().toLowerCase())
+            : "id";
+        Sort.Direction direction = "desc".equalsIgnoreCase(criteria.getSortDirection())
+            ? Sort.Direction.DESC
+            : Sort.Direction.ASC;
+        
+        Object lastSortValue = null;
+        Long lastId = null;
+        if (criteria.getCursor() != null && !criteria.getCursor().isBlank()) {
+            ProductCursor cursor = ProductCursor.decode(criteria.getCursor());
+            if (!cursor.sortField().equals(sortField) || cursor.direction() != direction) {
+                throw new IllegalArgumentException("Cursor does not match the requested sort order");
+            }
+            lastSortValue = cursor.sortValue();
+            lastId = cursor.id();
+        }
+        
+        // Fetch one extra row to learn whether another page exists
+        List<Product> products = productRepository.findProductsAfter(
+            searchSpecification(criteria), sortField, direction, lastSortValue, lastId, size + 1);
+        
+        boolean hasNext = products.size() > size;
+        if (hasNext) {
+            products = products.subList(0, size);
+        }
+        
+        String nextCursor = null;
+        if (hasNext) {
+            Product last = products.get(products.size() - 1);
+            nextCursor = new ProductCursor(sortField, direction, sortValueOf(last, sortField), last.getId()).encode();
+        }
+        
+        return CursorPageDTO.<ProductSummaryDTO>builder()
+            .content(productMapper.toSummaryDTOList(products))
+            .size(size)
+            .hasNext(hasNext)
+            .nextCursor(nextCursor)
+            .build();
     }
 
     /**
@@ -197,8 +417,7 @@ public class ProductService {
      */
     @Transactional(readOnly = true)
     public List<ProductSummaryDTO> getProductsNeedingReorder() {
-        List<Product> products = productRepository.findProductsNeedingReorder();
-        return productMapper.toSummaryDTOList(products);
+        return productRepository.findSummariesNeedingReorder();
     }
 
     /**
@@ -207,12 +426,53 @@ public class ProductService {
      */
     @Transactional(readOnly = true)
     public List<ProductSummaryDTO> getProductsBelowMinimumStock() {
-        List<Product> products = productRepository.findProductsBelowMinimumStock();
-        return productMapper.toSummaryDTOList(products);
+        return productRepository.findSummariesBelowMinimumStock();
+    }
+
+    /**
+     * Find the products with the highest inventory value (unit price times quantity in stock).
+     * Reads the stored inventory value in index order with a LIMIT. Until the startup backfill
+     * has refreshed the stored values, selects them in one pass over the summaries with a size-K heap.
+     * @param k the number of products to return
+     * @param category optional category filter (case-insensitive)
+     * @return at most {@code k} products, most valuable first
+     */
+    @Transactional(readOnly = true)
+    public List<ProductSummaryDTO> getMostValuableProducts(int k, String category) {
+        String categoryKey = ProductMapper.toLookupKey(category);
+
+        if (inventoryValuesReady) {
+            Pageable topK = PageRequest.of(0, k);
+            return categoryKey != null
+                    ? productRepository.findMostValuableByCategoryKey(categoryKey, topK)
+                    : productRepository.findMostValuable(topK);
+        }
+        List<ProductSummaryDTO> candidates = categoryKey != null
+                ? productRepository.findSummariesByCategoryKey(categoryKey)
+                : productRepository.findAllSummaries();
+        return TopK.largest(candidates, k, ProductService::inventoryValueOf);
+    }
+
+    private static Money inventoryValueOf(ProductSummaryDTO product) {
+        return product.getUnitPrice() != null && product.getQuantityInStock() != null
+                ? Money.multiply(product.getUnitPrice(), product.getQuantityInStock())
+                : Money.ZERO;
+    }
+
+    /**
+     * Inventory metrics per category, aggregated in the database.
+     * @return one row per category lookup key, ordered by key; products without a category share a row with a null category
+     */
+    @Transactional(readOnly = true)
+    public List<CategoryMetricsDTO> getCategoryMetrics() {
+        return productRepository.findCategoryMetrics();
     }
 
     /**
      * Search products by name.
+     * Served from the trigram index when it can answer the query; candidates are
+     * loaded by ID and verified for an exact case-insensitive substring match.
+     * Falls back to a database LIKE scan otherwise.
      * @param name the name to search for (partial match)
      * @return list of matching products
      */
@@ -222,8 +482,127 @@ public class ProductService {
             throw new IllegalArgumentException("Search name cannot be null or empty");
         }
         
-        List<Product> products = productRepository.findByNameContainingIgnoreCase(name.trim());
-        return productMapper.toSummaryDTOList(products);
+        String query = name.trim();
+        Optional<long[]> candidates = productTrigramIndex.candidates(ProductTrigramIndex.Field.NAME, query);
+        if (candidates.isEmpty()) {
+            return productRepository.findSummariesByNameContaining(query);
+        }
+        
+        String normalizedQuery = query.toLowerCase(Locale.ROOT);
+        return findSummariesByIdsChunked(candidates.get()).stream()
+            .filter(product -> product.getName() != null
+                && product.getName().toLowerCase(Locale.ROOT).contains(normalizedQuery))
+            .sorted(Comparator.comparing(ProductSummaryDTO::getId))
+            .toList();
+    }
+
+    /**
+     * Search products by SKU substring (case-insensitive).
+     * Served from the trigram index like {@link #searchProductsByName}.
+     * @param sku the SKU fragment to search for
+     * @return matching products in ID order
+     */
+    @Transactional(readOnly = true)
+    public List<ProductSummaryDTO> searchProductsBySku(String sku) {
+        if (sku == null || sku.trim().isEmpty()) {
+            throw new IllegalArgumentException("Search SKU cannot be null or empty");
+        }
+        
+        ProductSearchCriteria filter = new ProductSearchCriteria();
+        filter.setSku(sku.trim());
+        return searchBySubstring(ProductTrigramIndex.Field.SKU, sku.trim(), filter);
+    }
+
+    /**
+     * Search products by description substring (case-insensitive).
+     * Served from the trigram index like {@link #searchProductsByName}.
+     * @param text the description fragment to search for
+     * @return matching products in ID order
+     */
+    @Transactional(readOnly = true)
+    public List<ProductSummaryDTO> searchProductsByDescription(String text) {
+        if (text == null || text.trim().isEmpty()) {
+            throw new IllegalArgumentException("Search text cannot be null or empty");
+        }
+        
+        ProductSearchCriteria filter = new ProductSearchCriteria();
+        filter.setDescriptionContaining(text.trim());
+        return searchBySubstring(ProductTrigramIndex.Field.DESCRIPTION, text.trim(), filter);
+    }
+
+    /**
+     * Runs a single substring filter over the trigram candidates, verified by the filter's
+     * LIKE predicate in chunked ID lookups; a LIKE scan when the index cannot answer.
+     */
+    private List<ProductSummaryDTO> searchBySubstring(ProductTrigramIndex.Field field, String query,
+            ProductSearchCriteria filter) {
+        Specification<Product> specification = ProductSpecification.fromCriteria(filter);
+        Pageable byId = Pageable.unpaged(Sort.by("id"));
+        Optional<long[]> candidates = productTrigramIndex.candidates(field, query);
+        if (candidates.isEmpty()) {
+            return productRepository.findSummaries(specification, byId);
+        }
+        
+        long[] ids = candidates.get();
+        List<ProductSummaryDTO> products = new ArrayList<>();
+        for (int from = 0; from < ids.length; from += ID_LOOKUP_CHUNK_SIZE) {
+            int to = Math.min(from + ID_LOOKUP_CHUNK_SIZE, ids.length);
+            List<Long> chunk = Arrays.stream(ids, from, to).boxed().toList();
+            products.addAll(productRepository.findSummaries(specification.and(ProductSpecification.idIn(chunk)), byId));
+        }
+        return products;
+    }
+
+    /**
+     * Ranked full-text search over name, description, category, supplier and SKU.
+     * @param text the free-text query
+     * @param limit the maximum number of results
+     * @return matching products ordered by relevance
+     * @throws SearchUnavailableException if full-text search is disabled
+     */
+    @Transactional(readOnly = true)
+    public List<ProductSearchHitDTO> searchProductsByText(String text, int limit) {
+        if (text == null || text.trim().isEmpty()) {
+            throw new IllegalArgumentException("Search text cannot be null or empty");
+        }
+        
+        List<ProductFullTextIndex.Hit> hits = productFullTextIndex.search(text.trim(), limit);
+        if (hits.isEmpty()) {
+            return List.of();
+        }
+        
+        Map<Long, ProductSummaryDTO> productsById = productRepository.findSummariesByIdIn(
+                hits.stream().map(ProductFullTextIndex.Hit::productId).toList())
+            .stream()
+            .collect(Collectors.toMap(ProductSummaryDTO::getId, Function.identity()));
+        
+        // Keep the index ranking; skip hits deleted since the last index refresh
+        return hits.stream()
+            .filter(hit -> productsById.containsKey(hit.productId()))
+            .map(hit -> ProductSearchHitDTO.builder()
+                .product(productsById.get(hit.productId()))
+                .score(hit.score())
+                .build())
+            .toList();
+    }
+
+    /**
+     * Typeahead suggestions: products whose name or SKU starts with the prefix,
+     * highest inventory value first. Served from the in-memory suggest index,
+     * or from an indexed prefix query while the index is unavailable.
+     * @param prefix the typed prefix
+     * @param limit the maximum number of suggestions
+     * @return the suggestions
+     */
+    @Transactional(readOnly = true)
+    public List<ProductSuggestionDTO> suggestProducts(String prefix, int limit) {
+        if (prefix == null || prefix.trim().isEmpty()) {
+            throw new IllegalArgumentException("Suggestion prefix cannot be null or empty");
+        }
+        
+        return productSuggestIndex.suggest(prefix, limit)
+            .orElseGet(() -> productRepository.findSuggestions(
+                prefix.trim().replaceAll("[!%_]", "!$0"), PageRequest.of(0, limit)));
     }
 
     /**
@@ -237,8 +616,7 @@ public class ProductService {
             throw new IllegalArgumentException("Category cannot be null or empty");
         }
         
-        List<Product> products = productRepository.findByCategoryIgnoreCase(category.trim());
-        return productMapper.toSummaryDTOList(products);
+        return productRepository.findSummariesByCategoryKey(ProductMapper.toLookupKey(category));
     }
 
     /**
@@ -252,8 +630,7 @@ public class ProductService {
             throw new IllegalArgumentException("Supplier cannot be null or empty");
         }
         
-        List<Product> products = productRepository.findBySupplierIgnoreCase(supplier.trim());
-        return productMapper.toSummaryDTOList(products);
+        return productRepository.findSummariesBySupplierKey(ProductMapper.toLookupKey(supplier));
     }
 
     /**
@@ -267,8 +644,7 @@ public class ProductService {
             throw new IllegalArgumentException("Status cannot be null");
         }
         
-        List<Product> products = productRepository.findByStatus(status);
-        return productMapper.toSummaryDTOList(products);
+        return productRepository.findSummariesByStatus(status);
     }
 
     // ===================================
@@ -297,49 +673,50 @@ public class ProductService {
     }
 
     /**
-     * Applies sorting to the product list.
+     * Search specification for the criteria. When the trigram index can answer the name, SKU
+     * and description substring filters and they leave few candidates, the search is narrowed
+     * to those IDs, so the LIKE predicates only verify rows found by primary key.
      */
-    private List<Product> applySorting(List<Product> products, ProductSearchCriteria criteria) {
-        if (criteria.getSortBy() == null || criteria.getSortBy().trim().isEmpty()) {
-            return products;
+    private Specification<Product> searchSpecification(ProductSearchCriteria criteria) {
+        Specification<Product> specification = ProductSpecification.fromCriteria(criteria);
+        long[] candidates = null;
+        candidates = narrow(candidates, ProductTrigramIndex.Field.NAME, criteria.getNameContaining());
+        candidates = narrow(candidates, ProductTrigramIndex.Field.SKU, criteria.getSku());
+        candidates = narrow(candidates, ProductTrigramIndex.Field.DESCRIPTION, criteria.getDescriptionContaining());
+        if (candidates == null || candidates.length > MAX_SUBSTRING_CANDIDATES) {
+            return specification;
         }
-        
-        String sortBy = criteria.getSortBy().toLowerCase();
-        boolean ascending = !"desc".equalsIgnoreCase(criteria.getSortDirection());
-        
-        return products.stream()
-                .sorted((p1, p2) -> {
-                    int result = switch (sortBy) {
-                        case "name" -> p1.getName().compareToIgnoreCase(p2.getName());
-                        case "sku" -> p1.getSku().compareToIgnoreCase(p2.getSku());
-                        case "unitprice" -> p1.getUnitPrice().compareTo(p2.getUnitPrice());
-                        case "quantityinstock" -> p1.getQuantityInStock().compareTo(p2.getQuantityInStock());
-                        case "createdat" -> p1.getCreatedAt().compareTo(p2.getCreatedAt());
-                        default -> p1.getName().compareToIgnoreCase(p2.getName());
-                    };
-                    return ascending ? result : -result;
-                })
-                .toList();
+        return specification.and(ProductSpecification.idIn(Arrays.stream(candidates).boxed().toList()));
     }
 
-    /**
-     * Applies pagination to the product list.
-     */
-    private List<Product> applyPagination(List<Product> products, ProductSearchCriteria criteria) {
-        if (criteria.getPage() == null || criteria.getSize() == null) {
-            return products;
+    // Intersects the candidates so far (null for no restriction) with those of one substring filter
+    private long[] narrow(long[] candidates, ProductTrigramIndex.Field field, String value) {
+        if (value == null || value.trim().isEmpty()) {
+            return candidates;
         }
-        
-        int page = Math.max(0, criteria.getPage());
-        int size = Math.max(1, Math.min(100, criteria.getSize())); // Max 100 items per page
-        int startIndex = page * size;
-        
-        if (startIndex >= products.size()) {
-            return List.of(); // Empty list if page is beyond available data
+        Optional<long[]> fieldCandidates = productTrigramIndex.candidates(field, value.trim());
+        if (fieldCandidates.isEmpty()) {
+            return candidates;
         }
-        
-        int endIndex = Math.min(startIndex + size, products.size());
-        return products.subList(startIndex, endIndex);
+        if (candidates == null) {
+            return fieldCandidates.get();
+        }
+        // Both arrays are in ascending ID order
+        long[] other = fieldCandidates.get();
+        long[] common = new long[Math.min(candidates.length, other.length)];
+        int size = 0;
+        for (int i = 0, j = 0; i < candidates.length && j < other.length; ) {
+            if (candidates[i] < other[j]) {
+                i++;
+            } else if (candidates[i] > other[j]) {
+                j++;
+            } else {
+                common[size++] = candidates[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(common, size);
     }
 
     /**
@@ -375,6 +752,60 @@ public class ProductService {
         };
     }
 
+    /**
+     * Reads the value of a keyset sort field from a product.
+     */
+    private Object sortValueOf(Product product, String sortField) {
+        return switch (sortField) {
+            case "name" -> product.getName();
+            case "sku" -> product.getSku();
+            case "unitPrice" -> product.getUnitPrice();
+            case "quantityInStock" -> product.getQuantityInStock();
+            case "createdAt" -> product.getCreatedAt();
+            default -> null;
+        };
+    }
+
+    /**
+     * Loads product summaries by ID with IN lists of bounded size.
+     */
+    private List<ProductSummaryDTO> findSummariesByIdsChunked(long[] ids) {
+        List<ProductSummaryDTO> products = new ArrayList<>(ids.length);
+        for (int from = 0; from < ids.length; from += ID_LOOKUP_CHUNK_SIZE) {
+            int to = Math.min(from + ID_LOOKUP_CHUNK_SIZE, ids.length);
+            List<Long> chunk = Arrays.stream(ids, from, to).boxed().toList();
+            products.addAll(productRepository.findSummariesByIdIn(chunk));
+        }
+        return products;
+    }
+
+    /**
+     * Splits the requested keys into found products and misses, keeping the request order.
+     */
+    private <K> ProductBatchLookupDTO<K> toBatchLookup(List<K> keys, Map<K, Product> productsByKey) {
+        List<ProductResponseDTO> products = new ArrayList<>(productsByKey.size());
+        List<K> missing = new ArrayList<>();
+        for (K key : keys) {
+            Product product = productsByKey.get(key);
+            if (product != null) {
+                products.add(productMapper.toResponseDTO(product));
+            } else {
+                missing.add(key);
+            }
+        }
+        return ProductBatchLookupDTO.<K>builder()
+            .products(products)
+            .missing(missing)
+            .build();
+    }
+
+    /**
+     * Lookup key of a SKU, matching the way a case-insensitive collation compares SKUs.
+     */
+    private static String skuKey(String sku) {
+        return sku.trim().toLowerCase(Locale.ROOT);
+    }
+
     /**
      * Deletes a product by its ID.
      * @param productId the ID of the product to delete
@@ -383,11 +814,33 @@ public class ProductService {
     public void deleteProduct(Long productId) {
         productValidator.validateForDeletion(productId);
         
-        if (!productRepository.existsById(productId)) {
-            throw new ProductNotFoundException("Product not found with ID: " + productId);
-        }
+        Product product = productRepository.findById(productId)
+                .orElseThrow(() -> new ProductNotFoundException("Product not found with ID: " + productId));
         
-        productRepository.deleteById(productId);
+        productRepository.delete(product);
+        eventPublisher.publishEvent(ProductChangedEvent.deleted(ProductSnapshot.of(product)));
+    }
+
+    /**
+     * Backfills the derived lookup keys, stock-condition flags and inventory values of rows that predate them.
+     * Runs once on startup; rows written through JPA always carry up-to-date values.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillDerivedColumns() {
+        int categories = productRepository.backfillCategoryKeys();
+        int suppliers = productRepository.backfillSupplierKeys();
+        if (categories > 0 || suppliers > 0) {
+            log.info("Backfilled lookup keys for {} categories and {} suppliers", categories, suppliers);
+        }
+        int stockConditions = productRepository.refreshStockConditions();
+        if (stockConditions > 0) {
+            log.info("Refreshed stock-condition flags for {} products", stockConditions);
+        }
+        int inventoryValues = productRepository.refreshInventoryValues();
+        if (inventoryValues > 0) {
+            log.info("Refreshed inventory values for {} products", inventoryValues);
+        }
+        inventoryValuesReady = true;
     }
 
     /**
@@ -415,6 +868,7 @@ public class ProductService {
         Product product = productRepository.findById(productId)
                 .orElseThrow(() -> new ProductNotFoundException("Product not found with ID: " + productId));
         
+        ProductSnapshot previous = ProductSnapshot.of(product);
         product.setQuantityInStock(newQuantity);
         
         // Auto-update status based on stock
@@ -424,7 +878,55 @@ public class ProductService {
             product.setStatus(ProductStatus.AVAILABLE);
         }
         
-        Product savedProduct = productRepository.save(product);
+        // Flushed so the snapshot carries the new modification timestamp
+        Product savedProduct = productRepository.saveAndFlush(product);
+        eventPublisher.publishEvent(ProductChangedEvent.updated(previous, ProductSnapshot.of(savedProduct)));
         return productMapper.toResponseDTO(savedProduct);
     }
+
+    /**
+     * Adds a signed delta to the product stock with one conditional update, so concurrent
+     * adjustments never overwrite each other. The status follows the same rules as
+     * {@link #updateProductStock}. The update also records the status it replaced, so the
+     * published change carries the exact quantity and status before the adjustment.
+     * @param productId the ID of the product
+     * @param delta the quantity to add, negative to remove stock
+     * @return the updated product as a response DTO
+     * @throws ProductNotFoundException if product is not found
+     * @throws InsufficientStockException if the adjustment would leave a negative quantity in stock
+     * @throws InvalidProductDataException if the delta is zero or the adjusted quantity would exceed the stock limit
+     */
+    public ProductResponseDTO adjustProductStock(Long productId, Integer delta) {
+        productValidator.validateProductId(productId);
+        productValidator.validateStockAdjustment(delta);
+
+        int updated = productRepository.adjustStock(productId, delta, ProductValidator.MAX_QUANTITY_IN_STOCK,
+                LocalDateTime.now());
+        if (updated == 0) {
+            throw rejectedAdjustment(productId, delta);
+        }
+
+        Product product = productRepository.findById(productId)
+                .orElseThrow(() -> new ProductNotFoundException("Product not found with ID: " + productId));
+        ProductSnapshot current = ProductSnapshot.of(product);
+        // The row was never read before the update: the previous stock follows from the delta,
+        // and the update kept the previous status
+        ProductSnapshot previous = current.withStock(current.quantityInStock() - delta, product.getPreviousStatus());
+        eventPublisher.publishEvent(ProductChangedEvent.updated(previous, current));
+        return productMapper.toResponseDTO(product);
+    }
+
+    // Tells apart the reasons a conditional stock adjustment matched no row
+    private RuntimeException rejectedAdjustment(Long productId, int delta) {
+        Optional<Product> product = productRepository.findById(productId);
+        if (product.isEmpty()) {
+            return new ProductNotFoundException("Product not found with ID: " + productId);
+        }
+        int quantity = Optional.ofNullable(product.get().getQuantityInStock()).orElse(0);
+        if (quantity + delta < 0) {
+            return new InsufficientStockException("Insufficient stock for product " + productId
+                    + ": " + quantity + " in stock, adjustment of " + delta + " requested");
+        }
+        return new InvalidProductDataException("Product quantity in stock cannot exceed 1,000,000");
+    }
 }
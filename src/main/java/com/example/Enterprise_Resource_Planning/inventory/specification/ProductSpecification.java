@@ -0,0 +1,131 @@
+package com.example.Enterprise_Resource_Planning.inventory.specification;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import com.example.Enterprise_Resource_Planning.inventory.dto.request.ProductSearchCriteria;
+import com.example.Enterprise_Resource_Planning.inventory.mapper.ProductMapper;
+import com.example.Enterprise_Resource_Planning.inventory.model.Product;
+import com.example.Enterprise_Resource_Planning.inventory.model.ProductStatus;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+/**
+ * Dynamic query building for product search.
+ * Emits a predicate only for the criteria that are actually present, so the
+ * generated SQL contains no {@code :param IS NULL OR ...} branches and the
+ * optimizer can pick an index for the remaining conditions.
+ *
+ * Text comparisons are not wrapped in LOWER(): substring filters rely on the
+ * case-insensitive collation of the products table, and category and supplier
+ * are matched on their normalized, indexed lookup keys.
+ */
+public final class ProductSpecification {
+
+    private static final char LIKE_ESCAPE = '\\';
+
+    private ProductSpecification() {
+    }
+
+    /**
+     * Build a specification from search criteria.
+     *
+     * @param criteria the search criteria, may be null
+     * @return a specification matching every present criterion (all products when none is present)
+     */
+    public static Specification<Product> fromCriteria(ProductSearchCriteria criteria) {
+        return (root, query, cb) -> {
+            if (criteria == null) {
+                return null;
+            }
+
+            List<Predicate> predicates = new ArrayList<>();
+
+            if (hasText(criteria.getNameContaining())) {
+                predicates.add(contains(root, cb, "name", criteria.getNameContaining()));
+            }
+            if (hasText(criteria.getSku())) {
+                predicates.add(contains(root, cb, "sku", criteria.getSku()));
+            }
+            if (hasText(criteria.getDescriptionContaining())) {
+                predicates.add(contains(root, cb, "description", criteria.getDescriptionContaining()));
+            }
+            if (criteria.getStatus() != null) {
+                predicates.add(cb.equal(root.<ProductStatus>get("status"), criteria.getStatus()));
+            }
+            if (hasText(criteria.getCategory())) {
+                predicates.add(cb.equal(root.<String>get("categoryKey"), ProductMapper.toLookupKey(criteria.getCategory())));
+            }
+            if (hasText(criteria.getSupplier())) {
+                predicates.add(cb.equal(root.<String>get("supplierKey"), ProductMapper.toLookupKey(criteria.getSupplier())));
+            }
+            if (criteria.getMinPrice() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.<BigDecimal>get("unitPrice"), criteria.getMinPrice()));
+            }
+            if (criteria.getMaxPrice() != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.<BigDecimal>get("unitPrice"), criteria.getMaxPrice()));
+            }
+            if (criteria.getMinQuantity() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.<Integer>get("quantityInStock"), criteria.getMinQuantity()));
+            }
+            if (criteria.getMaxQuantity() != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.<Integer>get("quantityInStock"), criteria.getMaxQuantity()));
+            }
+            if (criteria.getMinWeight() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.<BigDecimal>get("weightKg"), criteria.getMinWeight()));
+            }
+            if (criteria.getMaxWeight() != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.<BigDecimal>get("weightKg"), criteria.getMaxWeight()));
+            }
+            if (Boolean.TRUE.equals(criteria.getBelowMinimumStock())) {
+                predicates.add(cb.isTrue(root.<Boolean>get("belowMinimumStock")));
+            }
+            if (Boolean.TRUE.equals(criteria.getNeedsReorder())) {
+                predicates.add(cb.isTrue(root.<Boolean>get("reorderNeeded")));
+            }
+
+            if (predicates.isEmpty()) {
+                return null;
+            }
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+
+    /**
+     * Restrict a search to the given product IDs, e.g. trigram index candidates.
+     *
+     * @param ids the product IDs
+     * @return a specification matching only those IDs (no product when there are none)
+     */
+    public static Specification<Product> idIn(Collection<Long> ids) {
+        return (root, query, cb) -> ids.isEmpty() ? cb.disjunction() : root.<Long>get("id").in(ids);
+    }
+
+    /**
+     * Substring match on a text attribute, with LIKE wildcards in the input escaped.
+     */
+    private static Predicate contains(Root<Product> root, CriteriaBuilder cb, String attribute, String value) {
+        return cb.like(root.<String>get(attribute), "%" + escapeLike(value.trim()) + "%", LIKE_ESCAPE);
+    }
+
+    private static String escapeLike(String value) {
+        StringBuilder escaped = new StringBuilder(value.length());
+        for (char c : value.toCharArray()) {
+            if (c == LIKE_ESCAPE || c == '%' || c == '_') {
+                escaped.append(LIKE_ESCAPE);
+            }
+            escaped.append(c);
+        }
+        return escaped.toString();
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.trim().isEmpty();
+    }
+}
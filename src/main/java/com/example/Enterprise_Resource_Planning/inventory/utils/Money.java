@@ -0,0 +1,177 @@
+package com.example.Enterprise_Resource_Planning.inventory.utils;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/**
+ * Exact money amount held as a long count of minor units (hundredths), the scale of
+ * {@code Product.unitPrice}. Arithmetic on two fixed-point amounts is plain long arithmetic
+ * with overflow checks; when a result does not fit a long, or an input has more than two
+ * decimals, the amount switches to an exact BigDecimal representation instead.
+ */
+public final class Money implements Comparable<Money> {
+
+    /**
+     * Number of decimals of a minor unit.
+     */
+    public static final int SCALE = 2;
+
+    public static final Money ZERO = new Money(0, null);
+
+    private static final long[] POWERS_OF_TEN = {1, 10, 100};
+    private static final BigInteger LONG_MIN = BigInteger.valueOf(Long.MIN_VALUE);
+    private static final BigInteger LONG_MAX = BigInteger.valueOf(Long.MAX_VALUE);
+
+    private final long minorUnits;
+    private final BigDecimal exact; // Non-null only if the amount is not representable in minor units
+
+    private Money(long minorUnits, BigDecimal exact) {
+        this.minorUnits = minorUnits;
+        this.exact = exact;
+    }
+
+    /**
+     * Amount of the given number of minor units.
+     */
+    public static Money ofMinorUnits(long minorUnits) {
+        return new Money(minorUnits, null);
+    }
+
+    /**
+     * Amount equal to a BigDecimal value.
+     */
+    public static Money of(BigDecimal amount) {
+        if (isCompact(amount)) {
+            return new Money(compactMinorUnits(amount), null);
+        }
+        return normalize(amount);
+    }
+
+    /**
+     * Amount times a quantity, e.g. unit price times quantity in stock, computed without
+     * an intermediate BigDecimal when the price is representable in minor units.
+     */
+    public static Money multiply(BigDecimal amount, long quantity) {
+        if (isCompact(amount)) {
+            long minor = compactMinorUnits(amount);
+            long high = Math.multiplyHigh(minor, quantity);
+            long product = minor * quantity;
+            if (fitsLong(high, product)) {
+                return new Money(product, null);
+            }
+        }
+        return normalize(amount.multiply(BigDecimal.valueOf(quantity)));
+    }
+
+    public Money times(long quantity) {
+        if (exact == null) {
+            long high = Math.multiplyHigh(minorUnits, quantity);
+            long product = minorUnits * quantity;
+            if (fitsLong(high, product)) {
+                return new Money(product, null);
+            }
+        }
+        return normalize(toBigDecimal().multiply(BigDecimal.valueOf(quantity)));
+    }
+
+    public Money plus(Money other) {
+        if (exact == null && other.exact == null) {
+            long sum = minorUnits + other.minorUnits;
+            if (!additionOverflowed(minorUnits, other.minorUnits, sum)) {
+                return new Money(sum, null);
+            }
+        }
+        return normalize(toBigDecimal().add(other.toBigDecimal()));
+    }
+
+    /**
+     * Whether the amount is held in minor units rather than as a BigDecimal.
+     */
+    public boolean isFixedPoint() {
+        return exact == null;
+    }
+
+    /**
+     * The amount in minor units.
+     *
+     * @throws ArithmeticException if the amount is not representable in minor units
+     */
+    public long minorUnitsExact() {
+        if (exact != null) {
+            throw new ArithmeticException("Amount " + exact.toPlainString() + " does not fit in minor units");
+        }
+        return minorUnits;
+    }
+
+    /**
+     * The amount as a BigDecimal; fixed-point amounts have a scale of {@link #SCALE}.
+     */
+    public BigDecimal toBigDecimal() {
+        return exact != null ? exact : BigDecimal.valueOf(minorUnits, SCALE);
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        if (exact == null && other.exact == null) {
+            return Long.compare(minorUnits, other.minorUnits);
+        }
+        return toBigDecimal().compareTo(other.toBigDecimal());
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        // Amounts representable in minor units are always held as such, so the representations are canonical
+        return this == obj || obj instanceof Money other
+            && minorUnits == other.minorUnits
+            && (exact == null ? other.exact == null : other.exact != null && exact.compareTo(other.exact) == 0);
+    }
+
+    @Override
+    public int hashCode() {
+        return exact == null ? Long.hashCode(minorUnits) : exact.stripTrailingZeros().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return toBigDecimal().toPlainString();
+    }
+
+    /**
+     * Whether a value converts to minor units without rounding and without risk of overflow:
+     * at most two decimals and at most 16 significant digits, so the result stays below 10^18.
+     */
+    static boolean isCompact(BigDecimal amount) {
+        int scale = amount.scale();
+        return scale >= 0 && scale <= SCALE && amount.precision() <= 16;
+    }
+
+    /**
+     * Minor units of a value accepted by {@link #isCompact(BigDecimal)}.
+     */
+    static long compactMinorUnits(BigDecimal amount) {
+        return amount.unscaledValue().longValue() * POWERS_OF_TEN[SCALE - amount.scale()];
+    }
+
+    static boolean fitsLong(long high, long low) {
+        return (high == 0 && low >= 0) || (high == -1 && low < 0);
+    }
+
+    static boolean additionOverflowed(long left, long right, long sum) {
+        return ((left ^ sum) & (right ^ sum)) < 0;
+    }
+
+    private static Money normalize(BigDecimal amount) {
+        if (amount.scale() > SCALE) {
+            BigDecimal stripped = amount.stripTrailingZeros();
+            if (stripped.scale() > SCALE) {
+                return new Money(0, amount);
+            }
+            amount = stripped;
+        }
+        BigInteger minor = amount.setScale(SCALE).unscaledValue();
+        if (minor.compareTo(LONG_MIN) < 0 || minor.compareTo(LONG_MAX) > 0) {
+            return new Money(0, amount);
+        }
+        return new Money(minor.longValue(), null);
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.Enterprise_Resource_Planning.inventory.utils;
+
+import java.math.BigDecimal;
+
+/**
+ * Mutable running total of money amounts for valuation loops.
+ * Sums in long minor units, so adding a fixed-point price times quantity allocates nothing;
+ * on the first overflow, or an amount with more than two decimals, it continues as an exact
+ * BigDecimal sum. Not thread-safe: give each thread its own accumulator and merge them
+ * with {@link #add(MoneyAccumulator)}.
+ */
+public final class MoneyAccumulator {
+
+    private long minorUnits;
+    private BigDecimal overflow; // Exact running total once the long sum can no longer hold it
+
+    /**
+     * Add unit price times quantity.
+     *
+     * @param unitPrice the unit price, ignored if null
+     * @param quantity the quantity
+     */
+    public void addProduct(BigDecimal unitPrice, long quantity) {
+        if (unitPrice == null) {
+            return;
+        }
+        if (overflow == null && Money.isCompact(unitPrice)) {
+            addProduct(Money.compactMinorUnits(unitPrice), quantity);
+        } else {
+            addExact(unitPrice.multiply(BigDecimal.valueOf(quantity)));
+        }
+    }
+
+    /**
+     * Add unit price times quantity, with the price given in minor units.
+     */
+    public void addProduct(long unitPriceMinorUnits, long quantity) {
+        if (overflow == null) {
+            long high = Math.multiplyHigh(unitPriceMinorUnits, quantity);
+            long value = unitPriceMinorUnits * quantity;
+            if (Money.fitsLong(high, value)) {
+                long sum = minorUnits + value;
+                if (!Money.additionOverflowed(minorUnits, value, sum)) {
+                    minorUnits = sum;
+                    return;
+                }
+            }
+        }
+        addExact(BigDecimal.valueOf(unitPriceMinorUnits, Money.SCALE).multiply(BigDecimal.valueOf(quantity)));
+    }
+
+    public void add(Money amount) {
+        if (overflow == null && amount.isFixedPoint()) {
+            addProduct(amount.minorUnitsExact(), 1);
+        } else {
+            addExact(amount.toBigDecimal());
+        }
+    }
+
+    /**
+     * Add the total of another accumulator, e.g. when combining per-thread partial sums.
+     */
+    public void add(MoneyAccumulator other) {
+        if (other.overflow == null) {
+            addProduct(other.minorUnits, 1);
+        } else {
+            addExact(other.overflow);
+        }
+    }
+
+    /**
+     * Whether the total is still held in minor units.
+     */
+    public boolean isFixedPoint() {
+        return overflow == null;
+    }
+
+    public Money toMoney() {
+        return overflow == null ? Money.ofMinorUnits(minorUnits) : Money.of(overflow);
+    }
+
+    /**
+     * The exact total; fixed-point totals have a scale of {@link Money#SCALE}.
+     */
+    public BigDecimal total() {
+        return overflow != null ? overflow : BigDecimal.valueOf(minorUnits, Money.SCALE);
+    }
+
+    private void addExact(BigDecimal value) {
+        if (overflow == null) {
+            overflow = BigDecimal.valueOf(minorUnits, Money.SCALE);
+        }
+        overflow = overflow.add(value);
+    }
+}
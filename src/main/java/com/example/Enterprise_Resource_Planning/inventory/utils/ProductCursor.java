@@ -0,0 +1,70 @@
+package com.example.Enterprise_Resource_Planning.inventory.utils;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import org.springframework.data.domain.Sort;
+
+/**
+ * Position of the last row returned by a keyset (cursor) search.
+ * Serialized as an opaque, URL-safe token that clients pass back unchanged
+ * to fetch the next page.
+ *
+ * @param sortField the entity field the search was ordered by ("id" when ordered by ID only)
+ * @param direction the sort direction of the search
+ * @param sortValue the sort field value of the last row
+ * @param id the ID of the last row, used as the tie-breaker
+ */
+public record ProductCursor(String sortField, Sort.Direction direction, Object sortValue, Long id) {
+
+    private static final String SEPARATOR = "\n";
+
+    /**
+     * Encode this position as an opaque token.
+     */
+    public String encode() {
+        String value = sortValue != null ? sortValue.toString() : "";
+        String raw = String.join(SEPARATOR, sortField, direction.name(), String.valueOf(id), value);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode a token produced by {@link #encode()}.
+     *
+     * @param token the cursor token
+     * @return the decoded position
+     * @throws IllegalArgumentException if the token is malformed
+     */
+    public static ProductCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split(SEPARATOR, 4);
+            if (parts.length != 4) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+
+            String sortField = parts[0];
+            Sort.Direction direction = Sort.Direction.valueOf(parts[1]);
+            Long id = Long.valueOf(parts[2]);
+            return new ProductCursor(sortField, direction, parseSortValue(sortField, parts[3]), id);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+
+    /**
+     * Restore the sort value with the Java type of the entity field it was taken from.
+     */
+    private static Object parseSortValue(String sortField, String value) {
+        return switch (sortField) {
+            case "id" -> null;
+            case "name", "sku" -> value;
+            case "unitPrice" -> new BigDecimal(value);
+            case "quantityInStock" -> Integer.valueOf(value);
+            case "createdAt" -> LocalDateTime.parse(value);
+            default -> throw new IllegalArgumentException("Unsupported cursor sort field: " + sortField);
+        };
+    }
+}
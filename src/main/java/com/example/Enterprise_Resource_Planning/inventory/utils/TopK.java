@@ -0,0 +1,82 @@
+package com.example.Enterprise_Resource_Planning.inventory.utils;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.Function;
+
+/**
+ * Bounded selection of the k largest elements of a sequence.
+ * Keeps a min-heap of at most k entries, so it runs in O(n log k) time and O(k) memory.
+ * Instances can be merged, so partitions of a sequence can be ranked independently
+ * and combined afterwards. Not thread-safe.
+ *
+ * @param <T> the element type
+ */
+public final class TopK<T> {
+
+    private final int k;
+    private final Comparator<? super T> order;
+    private final PriorityQueue<T> heap; // Head is the smallest element kept
+
+    /**
+     * @param k the maximum number of elements to keep
+     * @param order the ranking order; the largest elements by this order are kept
+     */
+    public TopK(int k, Comparator<? super T> order) {
+        this.k = k;
+        this.order = order;
+        this.heap = new PriorityQueue<>(Math.max(1, k), order);
+    }
+
+    public void offer(T element) {
+        if (heap.size() < k) {
+            heap.add(element);
+        } else if (k > 0 && order.compare(element, heap.peek()) > 0) {
+            heap.poll();
+            heap.add(element);
+        }
+    }
+
+    /**
+     * Add the elements kept by another instance with the same k and order.
+     */
+    public void addAll(TopK<? extends T> other) {
+        other.heap.forEach(this::offer);
+    }
+
+    /**
+     * The kept elements, largest first.
+     */
+    public List<T> toList() {
+        List<T> result = new ArrayList<>(heap);
+        result.sort(order.reversed());
+        return result;
+    }
+
+    private record Ranked<T, K>(T element, K key, long position) {
+    }
+
+    /**
+     * Select the k elements with the largest keys in a single pass.
+     *
+     * @param elements the elements to select from
+     * @param k the maximum number of elements to return
+     * @param key computes the ranking key of an element; called once per element
+     * @return at most k elements ordered by descending key; ties keep their encounter order
+     */
+    public static <T, K extends Comparable<? super K>> List<T> largest(Iterable<T> elements, int k,
+                                                                       Function<? super T, ? extends K> key) {
+        // Among equal keys the earlier element ranks higher
+        Comparator<Ranked<T, K>> order = Comparator.<Ranked<T, K>, K>comparing(Ranked::key)
+            .thenComparing(Ranked::position, Comparator.reverseOrder());
+        TopK<Ranked<T, K>> top = new TopK<>(k, order);
+
+        long position = 0;
+        for (T element : elements) {
+            top.offer(new Ranked<>(element, key.apply(element), position++));
+        }
+        return top.toList().stream().map(Ranked::element).toList();
+    }
+}
@@ -28,6 +28,8 @@ public class ProductValidator {
     private static final BigDecimal MIN_PRICE = BigDecimal.ZERO;
     private static final BigDecimal MAX_WEIGHT = new BigDecimal("9999.999");
     private static final BigDecimal MIN_WEIGHT = new BigDecimal("0.001");
+    public static final int MAX_QUANTITY_IN_STOCK = 1000000;
+    private static final int MAX_BATCH_SIZE = 5000;
     
     /**
      * Validates a product entity for creation or update.
@@ -198,11 +200,30 @@ public class ProductValidator {
             throw new InvalidProductDataException("Product quantity in stock cannot be negative");
         }
         
-        if (quantityInStock > 1000000) {
+        if (quantityInStock > MAX_QUANTITY_IN_STOCK) {
             throw new InvalidProductDataException("Product quantity in stock cannot exceed 1,000,000");
         }
     }
 
+    /**
+     * Validates a signed stock adjustment.
+     * @param delta the quantity to add to the stock, negative to remove stock
+     * @throws InvalidProductDataException if the delta is null, zero or larger than the stock limit
+     */
+    public void validateStockAdjustment(Integer delta) {
+        if (delta == null) {
+            throw new InvalidProductDataException("Stock adjustment is required");
+        }
+        
+        if (delta == 0) {
+            throw new InvalidProductDataException("Stock adjustment cannot be zero");
+        }
+        
+        if (Math.abs(delta) > MAX_QUANTITY_IN_STOCK) {
+            throw new InvalidProductDataException("Stock adjustment cannot exceed 1,000,000 in either direction");
+        }
+    }
+
     /**
      * Validates product category.
      * 
@@ -331,8 +352,8 @@ public class ProductValidator {
             throw new InvalidProductDataException("Product IDs list cannot be null or empty");
         }
         
-        if (ids.size() > 1000) {
-            throw new InvalidProductDataException("Cannot process more than 1000 products at once");
+        if (ids.size() > MAX_BATCH_SIZE) {
+            throw new InvalidProductDataException("Cannot process more than " + MAX_BATCH_SIZE + " products at once");
         }
         
         ids.forEach(this::validateProductId);
@@ -344,6 +365,30 @@ public class ProductValidator {
         }
     }
 
+    /**
+     * Validates product SKUs for bulk operations.
+     * 
+     * @param skus the product SKUs to validate
+     * @throws InvalidProductDataException if validation fails
+     */
+    public void validateSkus(List<String> skus) {
+        if (skus == null || skus.isEmpty()) {
+            throw new InvalidProductDataException("Product SKUs list cannot be null or empty");
+        }
+        
+        if (skus.size() > MAX_BATCH_SIZE) {
+            throw new InvalidProductDataException("Cannot process more than " + MAX_BATCH_SIZE + " products at once");
+        }
+        
+        skus.forEach(this::validateSku);
+        
+        // Check for duplicates
+        long distinctCount = skus.stream().map(String::trim).distinct().count();
+        if (distinctCount != skus.size()) {
+            throw new InvalidProductDataException("Product SKUs list contains duplicates");
+        }
+    }
+
     /**
      * Validates SKU uniqueness for creation.
      * 
@@ -0,0 +1,468 @@
+package com.example.Enterprise_Resource_Planning;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import com.example.Enterprise_Resource_Planning.hr.controller.DepartmentController;
+import com.example.Enterprise_Resource_Planning.hr.controller.EmployeeController;
+import com.example.Enterprise_Resource_Planning.hr.controller.JobTitleController;
+import com.example.Enterprise_Resource_Planning.hr.model.Department;
+import com.example.Enterprise_Resource_Planning.hr.model.Employee;
+import com.example.Enterprise_Resource_Planning.hr.model.EmployeeStatus;
+import com.example.Enterprise_Resource_Planning.hr.model.Gender;
+import com.example.Enterprise_Resource_Planning.hr.model.JobTitle;
+import com.example.Enterprise_Resource_Planning.hr.repository.DepartmentRepository;
+import com.example.Enterprise_Resource_Planning.hr.repository.EmployeeRepository;
+import com.example.Enterprise_Resource_Planning.hr.repository.JobTitleRepository;
+import com.example.Enterprise_Resource_Planning.inventory.config.InventoryProperties;
+import com.example.Enterprise_Resource_Planning.inventory.config.InventoryProperties.Dashboard.Mode;
+import com.example.Enterprise_Resource_Planning.inventory.controller.InventoryDashboardController;
+import com.example.Enterprise_Resource_Planning.inventory.controller.ProductController;
+import com.example.Enterprise_Resource_Planning.inventory.dto.request.ProductCreateDTO;
+import com.example.Enterprise_Resource_Planning.inventory.dto.response.ProductResponseDTO;
+import com.example.Enterprise_Resource_Planning.inventory.model.Product;
+import com.example.Enterprise_Resource_Planning.inventory.repository.InventoryCategoryValuationRepository;
+import com.example.Enterprise_Resource_Planning.inventory.repository.InventoryValuationRepository;
+import com.example.Enterprise_Resource_Planning.inventory.repository.ProductRepository;
+import com.example.Enterprise_Resource_Planning.inventory.search.ProductSearchCache;
+import com.example.Enterprise_Resource_Planning.inventory.service.InventoryDashboardService;
+import com.example.Enterprise_Resource_Planning.inventory.service.InventoryValuationService;
+import com.example.Enterprise_Resource_Planning.inventory.service.ProductService;
+import com.example.Enterprise_Resource_Planning.support.SqlStatementRecorder;
+
+/**
+ * SQL statement budgets for every HTTP endpoint of the inventory and HR controllers.
+ * Each case issues one request against a seeded fixture and fails when the number of
+ * JDBC statements Hibernate prepares exceeds the endpoint's budget, so an N+1 select or an
+ * extra round trip shows up as a test failure instead of a production slowdown.
+ * Every statement counts, including those against the Spring Modulith {@code event_publication}
+ * registry, so write amplification by event publications shows up in the budgets too.
+ * The catalog is read in batches of {@value #CATALOG_BATCH_SIZE} products and the fixture holds
+ * {@value #CATALOG_SIZE}, so endpoints that scan the catalog are budgeted per batch.
+ * Dashboard cases may run in another dashboard mode than the configured one.
+ */
+@SpringBootTest(properties = {
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+    "erp.inventory.search.rebuild-batch-size=" + SqlStatementBudgetTest.CATALOG_BATCH_SIZE,
+    // Keep scheduled dashboard refreshes out of the measured requests
+    "erp.inventory.dashboard.refresh-interval=PT1H",
+    "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.example.Enterprise_Resource_Planning.support.SqlStatementRecorder",
+    "erp.file-storage.base-path=target/sql-budget-test/"
+})
+@AutoConfigureTestDatabase
+@AutoConfigureMockMvc(addFilters = false)
+class SqlStatementBudgetTest {
+
+    private static final Set<Class<?>> BUDGETED_CONTROLLERS = Set.of(
+        ProductController.class, InventoryDashboardController.class,
+        DepartmentController.class, EmployeeController.class, JobTitleController.class);
+
+    static final int CATALOG_BATCH_SIZE = 4;
+
+    // Six named products plus fillers, so that catalog scans span several batches
+    static final int CATALOG_SIZE = 14;
+
+    // Keyset batching reads until it gets a short batch, which may be empty
+    private static final int CATALOG_BATCHES = CATALOG_SIZE / CATALOG_BATCH_SIZE + 1;
+
+    private record Fixture(Long productId, String productSku, Long otherProductId,
+                           Long departmentId, Long emptyDepartmentId,
+                           Long jobTitleId, Long unusedJobTitleId,
+                           Long employeeId, String employeeEmail, LocalDateTime valuationCapturedAt) {
+    }
+
+    private record Budget(String handler, String description, int maxStatements, Mode dashboardMode,
+                          Function<Fixture, RequestBuilder> request) {
+
+        Budget(String handler, String description, int maxStatements, Function<Fixture, RequestBuilder> request) {
+            this(handler, description, maxStatements, null, request);
+        }
+
+        @Override
+        public String toString() {
+            return handler + (dashboardMode != null ? " " + dashboardMode : "")
+                + " [" + description + "] <= " + maxStatements;
+        }
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    @Qualifier("requestMappingHandlerMapping")
+    private RequestMappingHandlerMapping handlerMapping;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductSearchCache productSearchCache;
+
+    @Autowired
+    private InventoryDashboardService inventoryDashboardService;
+
+    @Autowired
+    private InventoryProperties inventoryProperties;
+
+    @Autowired
+    private InventoryValuationService inventoryValuationService;
+
+    @Autowired
+    private InventoryValuationRepository valuationRepository;
+
+    @Autowired
+    private InventoryCategoryValuationRepository categoryValuationRepository;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private JobTitleRepository jobTitleRepository;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    private Fixture fixture;
+
+    private Mode configuredDashboardMode;
+
+    static List<Budget> budgets() {
+        return List.of(
+            // Products
+            new Budget("ProductController#createProduct", "sku check + insert + aggregate delta", 3,
+                f -> json(post("/inventory/products"), """
+                    {"sku":"BUDGET-NEW","name":"Budget Widget","unitPrice":9.99,"quantityInStock":5,
+                     "category":"Hardware","supplier":"Acme","minimumStockLevel":2,"reorderPoint":1}""")),
+            new Budget("ProductController#getProductById", "single select", 1,
+                f -> get("/inventory/products/{id}", f.productId())),
+            new Budget("ProductController#getProductBySku", "single select", 1,
+                f -> get("/inventory/products/sku/{sku}", f.productSku())),
+            new Budget("ProductController#getProductsByIds", "one IN query per chunk", 1,
+                f -> json(post("/inventory/products/batch/ids"),
+                    "[" + f.productId() + "," + f.otherProductId() + ",999999]")),
+            new Budget("ProductController#getProductsBySkus", "one IN query per chunk", 1,
+                f -> json(post("/inventory/products/batch/skus"),
+                    "[\"" + f.productSku() + "\",\"MISSING-SKU\"]")),
+            new Budget("ProductController#updateProduct", "load + sku check + update + aggregate delta", 4,
+                f -> json(put("/inventory/products/{id}", f.productId()), """
+                    {"sku":"%s","name":"Steel Widget Renamed","unitPrice":12.50}""".formatted(f.productSku()))),
+            new Budget("ProductController#deleteProduct", "load + delete + aggregate delta", 3,
+                f -> delete("/inventory/products/{id}", f.productId())),
+            new Budget("ProductController#getAllProducts", "single projection", 1,
+                f -> get("/inventory/products")),
+            new Budget("ProductController#exportProducts", "one streamed select", 1,
+                f -> get("/inventory/products/export")),
+            new Budget("ProductController#searchProducts", "single filtered select", 1,
+                f -> json(post("/inventory/products/search"), """
+                    {"category":"Hardware","sortBy":"name"}""")),
+            new Budget("ProductController#searchProductsPageable", "offset page + count", 2,
+                f -> json(post("/inventory/products/search/pageable"), """
+                    {"page":0,"size":2,"sortBy":"name"}""")),
+            new Budget("ProductController#searchProductsPageable", "slice without count", 1,
+                f -> json(post("/inventory/products/search/pageable"), """
+                    {"page":0,"size":2,"pagingMode":"SLICE"}""")),
+            new Budget("ProductController#searchProductsPageable", "keyset cursor", 1,
+                f -> json(post("/inventory/products/search/pageable"), """
+                    {"size":2,"pagingMode":"CURSOR"}""")),
+            new Budget("ProductController#searchProductsPageable", "page + one grouped query per facet", 4,
+                f -> json(post("/inventory/products/search/pageable"), """
+                    {"page":0,"size":2,"includeFacets":true}""")),
+            new Budget("ProductController#searchByName", "trigram candidates by id", 1,
+                f -> get("/inventory/products/search/name").param("name", "widget")),
+            new Budget("ProductController#searchBySku", "trigram candidates by id", 1,
+                f -> get("/inventory/products/search/sku").param("sku", "widget")),
+            new Budget("ProductController#searchByDescription", "trigram candidates by id", 1,
+                f -> get("/inventory/products/search/description").param("text", "steel")),
+            new Budget("ProductController#searchByText", "full-text hits by id", 1,
+                f -> get("/inventory/products/search/text").param("q", "widget")),
+            new Budget("ProductController#suggest", "in-memory prefix index", 1,
+                f -> get("/inventory/products/suggest").param("q", "ste")),
+            new Budget("ProductController#searchByCategory", "indexed lookup key", 1,
+                f -> get("/inventory/products/search/category").param("category", "hardware")),
+            new Budget("ProductController#searchBySupplier", "indexed lookup key", 1,
+                f -> get("/inventory/products/search/supplier").param("supplier", "ACME")),
+            new Budget("ProductController#searchByStatus", "single select", 1,
+                f -> get("/inventory/products/search/status").param("status", "ACTIVE")),
+            // Zero stock crosses both thresholds: each alert is stored and completed in the publication registry
+            new Budget("ProductController#updateStock", "load + update + aggregate delta + 2 alert publications", 3 + 2 * 2,
+                f -> patch("/inventory/products/{id}/stock", f.productId()).param("quantity", "0")),
+            new Budget("ProductController#adjustStock", "conditional update + reload + aggregate delta", 3,
+                f -> patch("/inventory/products/{id}/stock/adjust", f.productId()).param("delta", "-5")),
+            new Budget("ProductController#getProductsNeedingReorder", "persisted flag", 1,
+                f -> get("/inventory/products/reorder-alerts")),
+            new Budget("ProductController#getProductsBelowMinimumStock", "persisted flag", 1,
+                f -> get("/inventory/products/low-stock")),
+            new Budget("ProductController#checkSkuExists", "exists query", 1,
+                f -> get("/inventory/products/check-sku").param("sku", f.productSku())),
+
+            // Inventory dashboard
+            new Budget("InventoryDashboardController#getInventorySummary", "sum of the running-total slots", 1,
+                f -> get("/inventory/dashboard/summary")),
+            new Budget("InventoryDashboardController#getInventorySummary", "snapshot from the catalog batches",
+                CATALOG_BATCHES, Mode.ON_DEMAND, f -> get("/inventory/dashboard/summary")),
+            new Budget("InventoryDashboardController#getInventorySummary", "precomputed snapshot", 0,
+                Mode.PRECOMPUTED, f -> get("/inventory/dashboard/summary")),
+            new Budget("InventoryDashboardController#getLowStockAlerts", "in-memory alert set", 0,
+                f -> get("/inventory/dashboard/alerts/low-stock")),
+            new Budget("InventoryDashboardController#getReorderAlerts", "in-memory alert set", 0,
+                f -> get("/inventory/dashboard/alerts/reorder")),
+            new Budget("InventoryDashboardController#streamStockAlerts", "in-memory subscription", 0,
+                f -> get("/inventory/dashboard/alerts/stream").accept(MediaType.TEXT_EVENT_STREAM)),
+            new Budget("InventoryDashboardController#getMetricsByCategory", "grouped query", 1,
+                f -> get("/inventory/dashboard/metrics/by-category")),
+            new Budget("InventoryDashboardController#getMetricsByCategory", "snapshot from the catalog batches",
+                CATALOG_BATCHES, Mode.ON_DEMAND, f -> get("/inventory/dashboard/metrics/by-category")),
+            new Budget("InventoryDashboardController#getMetricsByCategory", "precomputed snapshot", 0,
+                Mode.PRECOMPUTED, f -> get("/inventory/dashboard/metrics/by-category")),
+            new Budget("InventoryDashboardController#getTopValuableProducts", "indexed LIMIT query", 1,
+                f -> get("/inventory/dashboard/top-valuable")),
+            new Budget("InventoryDashboardController#getTopValuableProducts", "indexed LIMIT query, category filter", 1,
+                f -> get("/inventory/dashboard/top-valuable").param("category", "hardware").param("limit", "3")),
+            new Budget("InventoryDashboardController#getTopValuableProducts", "snapshot, category filter",
+                CATALOG_BATCHES, Mode.ON_DEMAND,
+                f -> get("/inventory/dashboard/top-valuable").param("category", "hardware").param("limit", "3")),
+            new Budget("InventoryDashboardController#getTopValuableProducts", "precomputed snapshot", 0,
+                Mode.PRECOMPUTED, f -> get("/inventory/dashboard/top-valuable")),
+            new Budget("InventoryDashboardController#getValuationHistory", "valuations + their category rows", 2,
+                f -> get("/inventory/dashboard/history")),
+            new Budget("InventoryDashboardController#getValuationAsOf", "latest valuation + its category rows", 2,
+                f -> get("/inventory/dashboard/history/as-of").param("at", f.valuationCapturedAt().toString())),
+
+            // Departments
+            new Budget("DepartmentController#getAllDepartments", "single select", 1,
+                f -> get("/departments")),
+            new Budget("DepartmentController#getDepartmentById", "single select", 1,
+                f -> get("/departments/{id}", f.departmentId())),
+            new Budget("DepartmentController#createDepartment", "insert", 1,
+                f -> json(post("/departments"), """
+                    {"name":"Research","location":"Building C"}""")),
+            new Budget("DepartmentController#updateDepartment", "load + update", 2,
+                f -> json(put("/departments/{id}", f.departmentId()), """
+                    {"id":%d,"name":"Engineering Ops","location":"Building A"}""".formatted(f.departmentId()))),
+            new Budget("DepartmentController#deleteDepartment", "exists + load + delete", 3,
+                f -> delete("/departments/{id}", f.emptyDepartmentId())),
+
+            // Job titles
+            new Budget("JobTitleController#getAllJobTitles", "single select", 1,
+                f -> get("/job-titles")),
+            new Budget("JobTitleController#getJobTitle", "single select", 1,
+                f -> get("/job-titles/{id}", f.jobTitleId())),
+            new Budget("JobTitleController#createJobTitle", "insert", 1,
+                f -> json(post("/job-titles"), """
+                    {"title":"Analyst","description":"Analyses business data"}""")),
+            new Budget("JobTitleController#updateJobTitle", "load + update", 2,
+                f -> json(put("/job-titles/{id}", f.jobTitleId()), """
+                    {"id":%d,"title":"Senior Engineer","description":"Builds and runs systems"}""".formatted(f.jobTitleId()))),
+            new Budget("JobTitleController#deleteJobTitle", "exists + load + delete", 3,
+                f -> delete("/job-titles/{id}", f.unusedJobTitleId())),
+
+            // Employees
+            new Budget("EmployeeController#findAll", "single select joining department and job title", 1,
+                f -> get("/employees")),
+            new Budget("EmployeeController#findById", "single select joining department and job title", 1,
+                f -> get("/employees/{id}", f.employeeId())),
+            new Budget("EmployeeController#findByEmail", "single select joining department and job title", 1,
+                f -> get("/employees/email/{email}", f.employeeEmail())),
+            new Budget("EmployeeController#createEmployee", "insert", 1,
+                f -> json(post("/employees"), employeeJson(f, "New Hire", "NH0000001", "new.hire@example.com"))),
+            new Budget("EmployeeController#updateEmployee", "load + update", 2,
+                f -> json(put("/employees/{id}", f.employeeId()),
+                    employeeJson(f, "Alice Renamed", "AL0000001", f.employeeEmail()))),
+            new Budget("EmployeeController#deleteEmployee", "load + delete", 2,
+                f -> delete("/employees/{id}", f.employeeId()))
+        );
+    }
+
+    @BeforeEach
+    void seed() {
+        employeeRepository.deleteAll();
+        departmentRepository.deleteAll();
+        jobTitleRepository.deleteAll();
+        categoryValuationRepository.deleteAll();
+        valuationRepository.deleteAll();
+        // Delete through the service so the in-memory search indexes drop the products too
+        productRepository.findAll().stream().map(Product::getId).forEach(productService::deleteProduct);
+
+        ProductResponseDTO widget = createProduct("STEEL-WIDGET", "Steel Widget", "19.99", 40, "Hardware", "Acme", 10, 5);
+        ProductResponseDTO bolt = createProduct("STEEL-BOLT", "Steel Bolt", "0.25", 3, "Hardware", "Acme", 50, 20);
+        createProduct("COPPER-WIRE", "Copper Wire", "4.75", 120, "Electrical", "Globex", 30, 15);
+        createProduct("WIDGET-CASE", "Widget Case", "7.50", 8, "Packaging", "Initech", 10, 8);
+        createProduct("LED-PANEL", "LED Panel", "89.00", 0, "Electrical", "Globex", 5, 2);
+        createProduct("HAMMER-01", "Claw Hammer", "24.00", 15, null, null, 5, 3);
+        for (int i = 7; i <= CATALOG_SIZE; i++) {
+            createProduct("FILLER-%02d".formatted(i), "Filler Part " + i, "1.00", 100, "Spares", "Acme", 10, 5);
+        }
+        LocalDateTime valuationCapturedAt = inventoryValuationService.capture().getCapturedAt();
+
+        Department engineering = departmentRepository.save(department("Engineering", "Building A"));
+        Department sales = departmentRepository.save(department("Sales", "Building B"));
+        Department facilities = departmentRepository.save(department("Facilities", "Basement"));
+        JobTitle engineer = jobTitleRepository.save(jobTitle("Engineer", "Builds software systems"));
+        JobTitle manager = jobTitleRepository.save(jobTitle("Manager", "Leads a team"));
+        JobTitle intern = jobTitleRepository.save(jobTitle("Intern", "Learns on the job"));
+
+        Employee alice = employeeRepository.save(employee("Alice Smith", "AL0000001", "alice@example.com", engineering, engineer));
+        employeeRepository.save(employee("Bob Jones", "BO0000002", "bob@example.com", engineering, manager));
+        employeeRepository.save(employee("Carol White", "CA0000003", "carol@example.com", sales, engineer));
+        employeeRepository.save(employee("Dan Brown", "DA0000004", "dan@example.com", sales, manager));
+
+        fixture = new Fixture(widget.getId(), widget.getSku(), bolt.getId(),
+            engineering.getId(), facilities.getId(), engineer.getId(), intern.getId(),
+            alice.getId(), alice.getEmail(), valuationCapturedAt);
+
+        configuredDashboardMode = inventoryProperties.getDashboard().getMode();
+        productSearchCache.invalidateAll();
+        inventoryDashboardService.invalidate();
+        SqlStatementRecorder.clear();
+    }
+
+    @AfterEach
+    void restoreDashboardMode() {
+        inventoryProperties.getDashboard().setMode(configuredDashboardMode);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("budgets")
+    void endpointStaysWithinItsStatementBudget(Budget budget) throws Exception {
+        if (budget.dashboardMode() != null) {
+            inventoryProperties.getDashboard().setMode(budget.dashboardMode());
+        }
+        // The scheduler keeps a precomputed snapshot in place before any request reads it
+        inventoryDashboardService.refresh();
+        SqlStatementRecorder.clear();
+
+        MvcResult result = mockMvc.perform(budget.request().apply(fixture)).andReturn();
+        String handler = handlerName(result.getHandler());
+        // Event streams stay open, so only their subscription is measured
+        if (result.getRequest().isAsyncStarted() && !isEventStream(result)) {
+            result = mockMvc.perform(asyncDispatch(result)).andReturn();
+        }
+
+        assertThat(result.getResponse().getStatus())
+            .as("HTTP status of %s: %s", budget, result.getResponse().getContentAsString())
+            .isBetween(200, 299);
+        assertThat(handler).as("handler serving %s", budget).isEqualTo(budget.handler());
+
+        List<String> statements = SqlStatementRecorder.statements();
+        assertThat(statements)
+            .as("SQL statements issued by %s", budget)
+            .hasSizeLessThanOrEqualTo(budget.maxStatements());
+    }
+
+    @Test
+    void everyEndpointDeclaresABudget() {
+        Set<String> budgeted = budgets().stream().map(Budget::handler).collect(Collectors.toSet());
+
+        List<String> missing = handlerMapping.getHandlerMethods().values().stream()
+            .filter(method -> BUDGETED_CONTROLLERS.contains(method.getBeanType()))
+            .map(SqlStatementBudgetTest::handlerName)
+            .filter(name -> !budgeted.contains(name))
+            .sorted()
+            .toList();
+
+        assertThat(missing).as("endpoints without a SQL statement budget").isEmpty();
+    }
+
+    // The response content type is only set with the first event, so go by what was requested
+    private static boolean isEventStream(MvcResult result) {
+        String accept = result.getRequest().getHeader(HttpHeaders.ACCEPT);
+        return accept != null && accept.startsWith(MediaType.TEXT_EVENT_STREAM_VALUE);
+    }
+
+    private static String handlerName(Object handler) {
+        HandlerMethod method = (HandlerMethod) handler;
+        return method.getBeanType().getSimpleName() + "#" + method.getMethod().getName();
+    }
+
+    private static MockHttpServletRequestBuilder json(MockHttpServletRequestBuilder request, String body) {
+        return request.contentType(MediaType.APPLICATION_JSON).content(body);
+    }
+
+    private static String employeeJson(Fixture fixture, String fullName, String nationalId, String email) {
+        return """
+            {"fullName":"%s","nationalId":"%s","email":"%s","phone":"5551234567","gender":"FEMALE",
+             "dateOfBirth":"1990-04-12","hireDate":"2018-09-01","salary":65000.00,"status":"ACTIVE",
+             "department":{"id":%d},"jobTitle":{"id":%d}}"""
+            .formatted(fullName, nationalId, email, fixture.departmentId(), fixture.jobTitleId());
+    }
+
+    private ProductResponseDTO createProduct(String sku, String name, String unitPrice, int quantity,
+                                             String category, String supplier, int minimumStock, int reorderPoint) {
+        ProductCreateDTO dto = new ProductCreateDTO();
+        dto.setSku(sku);
+        dto.setName(name);
+        dto.setUnitPrice(new BigDecimal(unitPrice));
+        dto.setQuantityInStock(quantity);
+        dto.setCategory(category);
+        dto.setSupplier(supplier);
+        dto.setMinimumStockLevel(minimumStock);
+        dto.setReorderPoint(reorderPoint);
+        return productService.createProduct(dto);
+    }
+
+    private static Department department(String name, String location) {
+        Department department = new Department();
+        department.setName(name);
+        department.setLocation(location);
+        return department;
+    }
+
+    private static JobTitle jobTitle(String title, String description) {
+        JobTitle jobTitle = new JobTitle();
+        jobTitle.setTitle(title);
+        jobTitle.setDescription(description);
+        return jobTitle;
+    }
+
+    private static Employee employee(String fullName, String nationalId, String email,
+                                     Department department, JobTitle jobTitle) {
+        Employee employee = new Employee();
+        employee.setFullName(fullName);
+        employee.setNationalId(nationalId);
+        employee.setEmail(email);
+        employee.setGender(Gender.FEMALE);
+        employee.setDateOfBirth(LocalDate.of(1988, 3, 14));
+        employee.setHireDate(LocalDate.of(2015, 6, 1));
+        employee.setSalary(new BigDecimal("72000.00"));
+        employee.setStatus(EmployeeStatus.ACTIVE);
+        employee.setDepartment(department);
+        employee.setJobTitle(jobTitle);
+        return employee;
+    }
+}
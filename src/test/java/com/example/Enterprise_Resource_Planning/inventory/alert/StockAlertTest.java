@@ -0,0 +1,69 @@
+package com.example.Enterprise_Resource_Planning.inventory.alert;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.Enterprise_Resource_Planning.inventory.alert.StockAlert.AlertType;
+import com.example.Enterprise_Resource_Planning.inventory.alert.StockAlert.Transition;
+import com.example.Enterprise_Resource_Planning.inventory.model.ProductSnapshot;
+import com.example.Enterprise_Resource_Planning.inventory.model.ProductStatus;
+
+/**
+ * Alerts are raised and cleared only when a change crosses a threshold, never for changes
+ * that stay on the same side of it.
+ */
+class StockAlertTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 1, 5, 9, 30);
+
+    @Test
+    void raisesBothAlertsWhenStockDropsBelowTheReorderPoint() {
+        List<StockAlert> alerts = StockAlert.transitions(product(40), product(3), NOW);
+
+        assertThat(alerts).extracting(StockAlert::type, StockAlert::transition, StockAlert::threshold)
+            .containsExactly(
+                tuple(AlertType.LOW_STOCK, Transition.RAISED, 10),
+                tuple(AlertType.REORDER, Transition.RAISED, 5));
+        assertThat(alerts).allSatisfy(alert -> {
+            assertThat(alert.quantityInStock()).isEqualTo(3);
+            assertThat(alert.occurredAt()).isEqualTo(NOW);
+        });
+    }
+
+    @Test
+    void clearsOnlyTheReorderAlertWhenStockStaysBelowTheMinimum() {
+        List<StockAlert> alerts = StockAlert.transitions(product(5), product(8), NOW);
+
+        assertThat(alerts).extracting(StockAlert::type, StockAlert::transition)
+            .containsExactly(tuple(AlertType.REORDER, Transition.CLEARED));
+    }
+
+    @Test
+    void ignoresChangesThatCrossNoThreshold() {
+        assertThat(StockAlert.transitions(product(40), product(12), NOW)).isEmpty();
+        assertThat(StockAlert.transitions(product(4), product(0), NOW)).isEmpty();
+    }
+
+    @Test
+    void treatsCreationAndDeletionAsCrossings() {
+        assertThat(StockAlert.transitions(null, product(7), NOW))
+            .extracting(StockAlert::type, StockAlert::transition)
+            .containsExactly(tuple(AlertType.LOW_STOCK, Transition.RAISED));
+
+        List<StockAlert> deleted = StockAlert.transitions(product(2), null, NOW);
+        assertThat(deleted).extracting(StockAlert::transition).containsOnly(Transition.CLEARED);
+        assertThat(deleted).extracting(StockAlert::quantityInStock).containsOnlyNulls();
+    }
+
+    // Minimum stock level 10, reorder point 5
+    private static ProductSnapshot product(int quantityInStock) {
+        return new ProductSnapshot(1L, "STEEL-WIDGET", "Steel Widget", null, "Hardware", "Acme",
+            new BigDecimal("19.99"), ProductStatus.AVAILABLE, quantityInStock, 10, 5, NOW);
+    }
+}
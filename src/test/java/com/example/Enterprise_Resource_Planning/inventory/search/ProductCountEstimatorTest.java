@@ -0,0 +1,91 @@
+package com.example.Enterprise_Resource_Planning.inventory.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.example.Enterprise_Resource_Planning.inventory.config.InventoryProperties;
+import com.example.Enterprise_Resource_Planning.inventory.dto.request.ProductSearchCriteria;
+import com.example.Enterprise_Resource_Planning.inventory.model.Product;
+import com.example.Enterprise_Resource_Planning.inventory.repository.ProductRepository;
+import com.example.Enterprise_Resource_Planning.inventory.specification.ProductSpecification;
+
+/**
+ * Unfiltered searches are estimated from the table statistics, filtered searches by one
+ * exact count that is reused for later pages. The specifications are built the way
+ * ProductService builds them, so an unfiltered search still passes a non-null specification.
+ */
+class ProductCountEstimatorTest {
+
+    private ProductRepository productRepository;
+    private ProductCountEstimator estimator;
+
+    @BeforeEach
+    void setUp() {
+        productRepository = mock(ProductRepository.class);
+        estimator = new ProductCountEstimator(productRepository, new InventoryProperties());
+    }
+
+    @Test
+    void estimatesUnfilteredSearchesFromTableStatistics() {
+        ProductSearchCriteria criteria = new ProductSearchCriteria();
+        criteria.setPage(3);
+        when(productRepository.estimateRowCount()).thenReturn(125_000L);
+
+        long estimate = estimator.estimate(criteria, ProductSpecification.fromCriteria(criteria));
+
+        assertThat(estimate).isEqualTo(125_000L);
+        verify(productRepository).estimateRowCount();
+        verify(productRepository, never()).count(any(Specification.class));
+    }
+
+    @Test
+    void countsUnfilteredSearchesWhenNoStatisticsAreAvailable() {
+        ProductSearchCriteria criteria = new ProductSearchCriteria();
+        Specification<Product> specification = ProductSpecification.fromCriteria(criteria);
+        when(productRepository.estimateRowCount()).thenReturn(null);
+        when(productRepository.count(specification)).thenReturn(42L);
+
+        assertThat(estimator.estimate(criteria, specification)).isEqualTo(42L);
+    }
+
+    @Test
+    void countsFilteredSearchesOnceForAllTheirPages() {
+        ProductSearchCriteria firstPage = new ProductSearchCriteria();
+        firstPage.setCategory("Hardware");
+        ProductSearchCriteria secondPage = new ProductSearchCriteria();
+        secondPage.setCategory("Hardware");
+        secondPage.setPage(1);
+        when(productRepository.count(any(Specification.class))).thenReturn(17L);
+
+        assertThat(estimator.estimate(firstPage, ProductSpecification.fromCriteria(firstPage))).isEqualTo(17L);
+        assertThat(estimator.estimate(secondPage, ProductSpecification.fromCriteria(secondPage))).isEqualTo(17L);
+
+        verify(productRepository, never()).estimateRowCount();
+        verify(productRepository, times(1)).count(any(Specification.class));
+    }
+
+    @Test
+    void sharesOneCountBetweenEquivalentFilters() {
+        ProductSearchCriteria lowerCase = new ProductSearchCriteria();
+        lowerCase.setCategory("hardware");
+        lowerCase.setNameContaining("steel");
+        ProductSearchCriteria padded = new ProductSearchCriteria();
+        padded.setCategory(" Hardware ");
+        padded.setNameContaining("STEEL ");
+        when(productRepository.count(any(Specification.class))).thenReturn(5L);
+
+        assertThat(estimator.estimate(lowerCase, ProductSpecification.fromCriteria(lowerCase))).isEqualTo(5L);
+        assertThat(estimator.estimate(padded, ProductSpecification.fromCriteria(padded))).isEqualTo(5L);
+
+        verify(productRepository, times(1)).count(any(Specification.class));
+    }
+}
@@ -0,0 +1,191 @@
+package com.example.Enterprise_Resource_Planning.inventory.specification;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import com.example.Enterprise_Resource_Planning.inventory.dto.request.ProductSearchCriteria;
+import com.example.Enterprise_Resource_Planning.inventory.model.ProductStatus;
+import com.example.Enterprise_Resource_Planning.inventory.repository.ProductRepository;
+import com.example.Enterprise_Resource_Planning.support.SqlStatementRecorder;
+
+/**
+ * Asserts the SQL generated by {@link ProductSpecification} for every combination
+ * of search filters: each present filter yields exactly one predicate on its column,
+ * absent filters yield nothing, and no catch-all IS NULL or LOWER() wrapping is emitted.
+ */
+@DataJpaTest(properties = {
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+    "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.example.Enterprise_Resource_Planning.support.SqlStatementRecorder"
+})
+class ProductSpecificationTest {
+
+    private record Filter(String name, String column, Consumer<ProductSearchCriteria> apply) {
+    }
+
+    private static final List<Filter> FILTERS = List.of(
+        new Filter("nameContaining", "name", c -> c.setNameContaining("widget")),
+        new Filter("sku", "sku", c -> c.setSku("WID-")),
+        new Filter("descriptionContaining", "description", c -> c.setDescriptionContaining("steel")),
+        new Filter("status", "status", c -> c.setStatus(ProductStatus.ACTIVE)),
+        new Filter("category", "category_key", c -> c.setCategory("Hardware")),
+        new Filter("supplier", "supplier_key", c -> c.setSupplier("Acme")),
+        new Filter("minPrice", "unit_price", c -> c.setMinPrice(new BigDecimal("1.00"))),
+        new Filter("maxPrice", "unit_price", c -> c.setMaxPrice(new BigDecimal("99.99"))),
+        new Filter("minQuantity", "quantity_in_stock", c -> c.setMinQuantity(1)),
+        new Filter("maxQuantity", "quantity_in_stock", c -> c.setMaxQuantity(500)),
+        new Filter("minWeight", "weight_kg", c -> c.setMinWeight(new BigDecimal("0.100"))),
+        new Filter("maxWeight", "weight_kg", c -> c.setMaxWeight(new BigDecimal("25.000")))
+    );
+
+    private static final List<String> COLUMNS = List.of(
+        "name", "sku", "description", "status", "category_key", "supplier_key", "unit_price", "quantity_in_stock", "weight_kg");
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @BeforeEach
+    void clearRecordedStatements() {
+        SqlStatementRecorder.clear();
+    }
+
+    @Test
+    void emitsOnlyThePredicatesOfPresentFilters() {
+        for (int mask = 0; mask < (1 << FILTERS.size()); mask++) {
+            ProductSearchCriteria criteria = new ProductSearchCriteria();
+            Map<String, Integer> expectedColumns = new HashMap<>();
+            StringBuilder description = new StringBuilder();
+
+            for (int i = 0; i < FILTERS.size(); i++) {
+                if ((mask & (1 << i)) != 0) {
+                    Filter filter = FILTERS.get(i);
+                    filter.apply().accept(criteria);
+                    expectedColumns.merge(filter.column(), 1, Integer::sum);
+                    description.append(filter.name()).append(' ');
+                }
+            }
+
+            String where = whereClauseOf(search(criteria));
+            String combination = "filters [" + description.toString().trim() + "]";
+
+            for (String column : COLUMNS) {
+                assertThat(count(where, "\\." + column + "\\b"))
+                    .as("predicates on %s for %s", column, combination)
+                    .isEqualTo(expectedColumns.getOrDefault(column, 0));
+            }
+            assertThat(count(where, "\\?"))
+                .as("bind parameters for %s", combination)
+                .isEqualTo(Integer.bitCount(mask));
+            assertThat(where).as(combination).doesNotContain("is null").doesNotContain("lower(");
+        }
+    }
+
+    @Test
+    void noCriteriaProducesNoWhereClause() {
+        assertThat(search(new ProductSearchCriteria())).doesNotContain(" where ");
+        assertThat(search(null)).doesNotContain(" where ");
+    }
+
+    @Test
+    void blankTextFiltersAreIgnored() {
+        ProductSearchCriteria criteria = new ProductSearchCriteria();
+        criteria.setNameContaining("  ");
+        criteria.setCategory("");
+
+        assertThat(search(criteria)).doesNotContain(" where ");
+    }
+
+    @Test
+    void belowMinimumStockUsesPersistedFlag() {
+        ProductSearchCriteria criteria = new ProductSearchCriteria();
+        criteria.setBelowMinimumStock(true);
+        criteria.setStatus(ProductStatus.ACTIVE);
+
+        String where = whereClauseOf(search(criteria));
+
+        assertThat(count(where, "\\.below_minimum_stock\\b")).isEqualTo(1);
+        assertThat(count(where, "\\.quantity_in_stock\\b")).isZero();
+        assertThat(count(where, "\\.minimum_stock_level\\b")).isZero();
+        assertThat(count(where, "\\.status\\b")).isEqualTo(1);
+        assertThat(count(where, "\\?")).isEqualTo(1);
+    }
+
+    @Test
+    void needsReorderUsesPersistedFlag() {
+        ProductSearchCriteria criteria = new ProductSearchCriteria();
+        criteria.setNeedsReorder(true);
+
+        String where = whereClauseOf(search(criteria));
+
+        assertThat(count(where, "\\.reorder_needed\\b")).isEqualTo(1);
+        assertThat(count(where, "\\.quantity_in_stock\\b")).isZero();
+        assertThat(count(where, "\\.reorder_point\\b")).isZero();
+        assertThat(count(where, "\\?")).isZero();
+    }
+
+    @Test
+    void categoryAndSupplierMatchNormalizedKeys() {
+        ProductSearchCriteria criteria = new ProductSearchCriteria();
+        criteria.setCategory("  Hardware ");
+        criteria.setSupplier("ACME");
+
+        String where = whereClauseOf(search(criteria));
+
+        assertThat(count(where, "\\.category_key\\b")).isEqualTo(1);
+        assertThat(count(where, "\\.supplier_key\\b")).isEqualTo(1);
+        assertThat(count(where, "\\.category\\b")).isZero();
+        assertThat(count(where, "\\.supplier\\b")).isZero();
+    }
+
+    @Test
+    void likeWildcardsInInputAreEscaped() {
+        ProductSearchCriteria criteria = new ProductSearchCriteria();
+        criteria.setNameContaining("100%_cotton");
+
+        String where = whereClauseOf(search(criteria));
+
+        assertThat(where).contains(" like ").contains("escape");
+    }
+
+    /**
+     * Run the specification and return the SQL of the product select it produced.
+     */
+    private String search(ProductSearchCriteria criteria) {
+        SqlStatementRecorder.clear();
+        productRepository.findAll(ProductSpecification.fromCriteria(criteria));
+
+        List<String> selects = SqlStatementRecorder.statements().stream()
+            .map(sql -> sql.toLowerCase(Locale.ROOT).replaceAll("\\s+", " "))
+            .filter(sql -> sql.startsWith("select") && sql.contains(" from products "))
+            .toList();
+        assertThat(selects).hasSize(1);
+        return selects.get(0);
+    }
+
+    private static String whereClauseOf(String sql) {
+        int index = sql.indexOf(" where ");
+        return index < 0 ? "" : sql.substring(index);
+    }
+
+    private static int count(String text, String regex) {
+        Matcher matcher = Pattern.compile(regex).matcher(text);
+        int count = 0;
+        while (matcher.find()) {
+            count++;
+        }
+        return count;
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.Enterprise_Resource_Planning.inventory.utils;
+
+import java.math.BigDecimal;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Inventory valuation (sum of unit price times quantity over the catalog) with BigDecimal
+ * arithmetic versus {@link MoneyAccumulator}. Not part of the test suite; run it with
+ * {@code mvn test-compile} followed by {@link #main(String[])} on the test classpath,
+ * or with {@code -prof gc} added to the options to compare allocation rates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InventoryValuationBenchmark {
+
+    @Param({"10000", "100000"})
+    private int products;
+
+    private BigDecimal[] unitPrices;
+    private long[] unitPriceMinorUnits;
+    private int[] quantities;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        unitPrices = new BigDecimal[products];
+        unitPriceMinorUnits = new long[products];
+        quantities = new int[products];
+        for (int i = 0; i < products; i++) {
+            long cents = 1 + random.nextInt(99_999_999); // 0.01 .. 999,999.99, the validated price range
+            unitPrices[i] = BigDecimal.valueOf(cents, 2);
+            unitPriceMinorUnits[i] = cents;
+            quantities[i] = random.nextInt(10_001);
+        }
+    }
+
+    /**
+     * The previous dashboard loop: a multiply and an add on BigDecimal per product.
+     */
+    @Benchmark
+    public BigDecimal bigDecimal() {
+        BigDecimal total = BigDecimal.ZERO;
+        for (int i = 0; i < products; i++) {
+            total = total.add(unitPrices[i].multiply(BigDecimal.valueOf(quantities[i])));
+        }
+        return total;
+    }
+
+    /**
+     * Fixed-point sum over the BigDecimal prices as loaded by JPA.
+     */
+    @Benchmark
+    public BigDecimal fixedPointFromBigDecimal() {
+        MoneyAccumulator total = new MoneyAccumulator();
+        for (int i = 0; i < products; i++) {
+            total.addProduct(unitPrices[i], quantities[i]);
+        }
+        return total.total();
+    }
+
+    /**
+     * Fixed-point sum over prices already in minor units.
+     */
+    @Benchmark
+    public BigDecimal fixedPoint() {
+        MoneyAccumulator total = new MoneyAccumulator();
+        for (int i = 0; i < products; i++) {
+            total.addProduct(unitPriceMinorUnits[i], quantities[i]);
+        }
+        return total.total();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(InventoryValuationBenchmark.class.getSimpleName())
+            .build()).run();
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.Enterprise_Resource_Planning.inventory.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Fixed-point valuation must match BigDecimal arithmetic exactly, including after the
+ * long sum overflows or an amount has more than two decimals.
+ */
+class MoneyAccumulatorTest {
+
+    @Test
+    void sumsPriceTimesQuantityInMinorUnits() {
+        MoneyAccumulator total = new MoneyAccumulator();
+        total.addProduct(new BigDecimal("19.99"), 3);
+        total.addProduct(new BigDecimal("5"), 2);
+        total.addProduct(new BigDecimal("0.5"), 1);
+        total.addProduct(null, 7);
+
+        assertThat(total.isFixedPoint()).isTrue();
+        assertThat(total.total()).isEqualByComparingTo("70.47");
+        assertThat(total.total().scale()).isEqualTo(Money.SCALE);
+    }
+
+    @Test
+    void fallsBackToBigDecimalWhenTheSumOverflows() {
+        MoneyAccumulator total = new MoneyAccumulator();
+        total.addProduct(Long.MAX_VALUE, 1);
+        total.addProduct(1, 1);
+
+        BigDecimal expected = BigDecimal.valueOf(Long.MAX_VALUE, 2).add(new BigDecimal("0.01"));
+        assertThat(total.isFixedPoint()).isFalse();
+        assertThat(total.total()).isEqualByComparingTo(expected);
+    }
+
+    @Test
+    void fallsBackToBigDecimalWhenTheProductOverflows() {
+        MoneyAccumulator total = new MoneyAccumulator();
+        total.addProduct(new BigDecimal("999999.99"), 10);
+        total.addProduct(Long.MAX_VALUE / 2, 3);
+
+        BigDecimal expected = new BigDecimal("9999999.90")
+            .add(BigDecimal.valueOf(Long.MAX_VALUE / 2, 2).multiply(BigDecimal.valueOf(3)));
+        assertThat(total.total()).isEqualByComparingTo(expected);
+    }
+
+    @Test
+    void keepsAmountsWithMoreThanTwoDecimalsExact() {
+        MoneyAccumulator total = new MoneyAccumulator();
+        total.addProduct(new BigDecimal("0.005"), 3);
+        total.addProduct(new BigDecimal("1.00"), 1);
+
+        assertThat(total.total()).isEqualByComparingTo("1.015");
+    }
+
+    @Test
+    void mergesPartialSums() {
+        MoneyAccumulator left = new MoneyAccumulator();
+        left.addProduct(new BigDecimal("2.50"), 4);
+        MoneyAccumulator right = new MoneyAccumulator();
+        right.addProduct(Long.MAX_VALUE, 1);
+        right.addProduct(Long.MAX_VALUE, 1);
+
+        left.add(right);
+
+        BigDecimal expected = new BigDecimal("10.00").add(BigDecimal.valueOf(Long.MAX_VALUE, 2).multiply(BigDecimal.valueOf(2)));
+        assertThat(left.total()).isEqualByComparingTo(expected);
+    }
+
+    @Test
+    void moneyComparesAcrossRepresentations() {
+        Money huge = Money.ofMinorUnits(Long.MAX_VALUE).times(2);
+        Money small = Money.multiply(new BigDecimal("19.99"), 3);
+
+        assertThat(huge.isFixedPoint()).isFalse();
+        assertThat(small.isFixedPoint()).isTrue();
+        assertThat(small).isEqualTo(Money.of(new BigDecimal("59.970")));
+        assertThat(huge.compareTo(small)).isPositive();
+        assertThat(Money.of(new BigDecimal("1E+3")).toBigDecimal()).isEqualByComparingTo("1000");
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.Enterprise_Resource_Planning.support;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate StatementInspector that records every SQL statement prepared by the session factory.
+ * Register it with {@code spring.jpa.properties.hibernate.session_factory.statement_inspector}.
+ */
+public class SqlStatementRecorder implements StatementInspector {
+
+    private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+    @Override
+    public String inspect(String sql) {
+        STATEMENTS.add(sql);
+        return sql;
+    }
+
+    /**
+     * Forget all statements recorded so far.
+     */
+    public static void clear() {
+        STATEMENTS.clear();
+    }
+
+    /**
+     * Statements recorded since the last {@link #clear()}.
+     */
+    public static List<String> statements() {
+        return List.copyOf(STATEMENTS);
+    }
+}